@@ -1,83 +1,146 @@
 package eplscout.controller;
 
-import eplscout.dao.TeamDao;
-import eplscout.model.Team;
 import eplscout.service.*;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/batch")
 public class BatchController {
 
-    private final TeamApiService teamApiService;
-    private final TeamDao teamDao;
-    private final PlayerSeasonStatService statService;
-    private final LeagueStandingService leagueStandingService;
-    private final PlayerApiService playerApiService; 
+    private final IngestionPipelineService pipelineService;
+    private final PipelineJobService jobService;
+    private final ScoutBatchService scoutBatchService;
+    private final ApiRateLimiter rateLimiter;
 
     public BatchController(
-            TeamApiService teamApiService,
-            TeamDao teamDao,
-            PlayerSeasonStatService statService,
-            LeagueStandingService leagueStandingService,
-            PlayerApiService playerApiService
+            IngestionPipelineService pipelineService,
+            PipelineJobService jobService,
+            ScoutBatchService scoutBatchService,
+            ApiRateLimiter rateLimiter
     ) {
-        this.teamApiService = teamApiService;
-        this.teamDao = teamDao;
-        this.statService = statService;
-        this.leagueStandingService = leagueStandingService;
-        this.playerApiService = playerApiService;
+        this.pipelineService = pipelineService;
+        this.jobService = jobService;
+        this.scoutBatchService = scoutBatchService;
+        this.rateLimiter = rateLimiter;
     }
 
     /* ==================================================
-       전체 시즌 파이프라인 실행
+       전체 시즌 파이프라인 작업 제출 (비동기)
+       - 즉시 jobId 반환, 진행은 GET /jobs/{jobId} 로 조회
+       - offline=true: API 호출 없이 디스크 캐시로만 재생
+       - 완료 단위는 체크포인트로 건너뜀 (restart=true: 처음부터)
     ================================================== */
-    @GetMapping("/full")
-    public String runFullPipeline(
+    @PostMapping("/jobs")
+    public Map<String, Object> submitPipelineJob(
             @RequestParam int leagueId,
             @RequestParam int start,
-            @RequestParam int end
-    ) throws Exception {
+            @RequestParam int end,
+            @RequestParam(defaultValue = "false") boolean offline,
+            @RequestParam(defaultValue = "false") boolean restart
+    ) {
+        return jobService.submit(leagueId, start, end, offline, restart);
+    }
 
-        for (int season = start; season <= end; season++) {
+    /* ==================================================
+       작업 상태 (단계 / 시즌별 진행 / 처리량 / 오류 / ETA)
+    ================================================== */
+    @GetMapping("/jobs/{jobId}")
+    public Map<String, Object> getPipelineJob(
+            @PathVariable String jobId
+    ) {
+        return jobService.getStatus(jobId);
+    }
 
-            System.out.println("==========");
-            System.out.println("▶ 시즌 시작: " + season);
-            System.out.println("==========");
+    @GetMapping("/jobs")
+    public List<Map<String, Object>> listPipelineJobs() {
+        return jobService.listJobs();
+    }
 
-            /*  리그 순위 */
-            leagueStandingService.fetchAndSaveStandings(
-                    leagueId,
-                    season
-            );
+    /* ==================================================
+       (기존 주소) 전체 시즌 파이프라인 작업 제출
+       - POST /jobs 와 동일 (기존 호출은 메서드만 POST 로 변경)
+    ================================================== */
+    @PostMapping("/full")
+    public Map<String, Object> runFullPipeline(
+            @RequestParam int leagueId,
+            @RequestParam int start,
+            @RequestParam int end,
+            @RequestParam(defaultValue = "false") boolean offline,
+            @RequestParam(defaultValue = "false") boolean restart
+    ) {
+        return jobService.submit(leagueId, start, end, offline, restart);
+    }
 
-            /*  팀 수집 */
-            List<Team> teams =
-                    teamApiService.fetchTeams(leagueId, season);
+    /* ==================================================
+       GET /full 은 더 이상 실행하지 않음 (GET 은 부수효과 없어야 함)
+       - 405 + Allow: POST 로 POST /full (또는 POST /jobs) 안내
+    ================================================== */
+    @GetMapping("/full")
+    public ResponseEntity<Map<String, Object>> rejectFullPipelineGet() {
 
-            teamDao.upsertTeams(teams);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", "GET /api/batch/full 은 지원 종료 (작업 실행 안 함)");
+        body.put("use", "POST /api/batch/full?leagueId=&start=&end=&offline=&restart=");
 
-            /*  선수 기본정보 API 수집  */
-            for (Team team : teams) {
+        return ResponseEntity
+                .status(HttpStatus.METHOD_NOT_ALLOWED)
+                .allow(HttpMethod.POST)
+                .header(HttpHeaders.LINK, "</api/batch/jobs>; rel=\"alternate\"")
+                .body(body);
+    }
 
-                playerApiService.loadTeamPlayers(
-                        team.getApiTeamId(),
-                        season
-                );
+    /* ==================================================
+       전체 시즌 파이프라인 진행 현황 (체크포인트 기준)
+    ================================================== */
+    @GetMapping("/full/progress")
+    public Map<Integer, Map<String, Object>> getPipelineProgress(
+            @RequestParam int leagueId,
+            @RequestParam int start,
+            @RequestParam int end
+    ) {
+        return pipelineService.getProgress(leagueId, start, end);
+    }
 
-                statService.loadTeamSeasonStats(
-                        leagueId,
-                        season,
-                        team.getApiTeamId()
-                );
-            }
+    /* ==================================================
+       시즌 경기별 선수 기록 수집 작업 제출 (비동기, 경기당 1회 조회)
+       - 선수 / 팀 수집 이후 실행
+       - incremental=true: 새 경기만 수집 + 영향 선수만 재집계
+       - 즉시 jobId 반환, 진행은 GET /jobs/{jobId} 로 조회
+    ================================================== */
+    @PostMapping("/match-stats")
+    public Map<String, Object> submitMatchStatsJob(
+            @RequestParam int leagueId,
+            @RequestParam int season,
+            @RequestParam(defaultValue = "false") boolean incremental
+    ) {
+        return jobService.submitMatchStats(leagueId, season, incremental);
+    }
 
-            System.out.println(" 시즌 완료: " + season);
-        }
+    /* ==================================================
+       API 요청 한도 상태
+    ================================================== */
+    @GetMapping("/rate-limit")
+    public Map<String, Object> getRateLimit() {
+        return rateLimiter.getStats();
+    }
 
-        return "OK - 전체 시즌 파이프라인 완료";
+    /* ==================================================
+       시즌 전체 팀 추천 배치 실행
+       - 팀별 추천 결과를 저장 → 부수효과 있으므로 POST
+    ================================================== */
+    @PostMapping("/recommend")
+    public Map<String, Object> runRecommendationBatch(
+            @RequestParam int season
+    ) {
+        return scoutBatchService.runRecommendationBatch(season);
     }
 }
@@ -0,0 +1,27 @@
+package eplscout.controller;
+
+import eplscout.db.DBUtil;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * DBStatusController
+ *
+ * 역할:
+ * - 커넥션 풀 상태 모니터링 (active / idle / 대기시간)
+ */
+@RestController
+@RequestMapping("/api/db")
+public class DBStatusController {
+
+    /**
+     * 커넥션 풀 상태 조회
+     *
+     * GET /api/db/pool
+     */
+    @GetMapping("/pool")
+    public Map<String, Object> getPoolStats() {
+        return DBUtil.getPoolStats();
+    }
+}
@@ -14,8 +14,11 @@ public class DashboardController {
     private final DashboardService dashboardService =
             new DashboardService();
 
-    private final LeagueNewsService leagueNewsService =
-            new LeagueNewsService();
+    private final LeagueNewsService leagueNewsService;
+
+    public DashboardController(LeagueNewsService leagueNewsService) {
+        this.leagueNewsService = leagueNewsService;
+    }
 
     /**
      * ===============================
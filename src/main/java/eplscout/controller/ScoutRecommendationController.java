@@ -1,8 +1,11 @@
 package eplscout.controller;
 
+import eplscout.model.ScoutRecommendation;
+import eplscout.service.ScoutBatchService;
 import eplscout.service.ScoutRecommendationService;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -10,15 +13,19 @@ import java.util.Map;
 public class ScoutRecommendationController {
 
     private final ScoutRecommendationService scoutService;
+    private final ScoutBatchService scoutBatchService;
 
     public ScoutRecommendationController(
-            ScoutRecommendationService scoutService
+            ScoutRecommendationService scoutService,
+            ScoutBatchService scoutBatchService
     ) {
         this.scoutService = scoutService;
+        this.scoutBatchService = scoutBatchService;
     }
 
     /**
      * 추천 결과 조회
+     * - 저장된 결과 반환 (입력 데이터 변경 시에만 재계산)
      */
     @GetMapping("/view/{teamId}/{season}")
     public Map<String, Object> viewScout(
@@ -28,6 +35,28 @@ public class ScoutRecommendationController {
         return scoutService.view(teamId, season);
     }
 
+    /**
+     * 추천 결과 강제 재계산
+     */
+    @PostMapping("/refresh/{teamId}/{season}")
+    public Map<String, Object> refreshScout(
+            @PathVariable long teamId,
+            @PathVariable int season
+    ) {
+        return scoutService.refresh(teamId, season);
+    }
+
+    /**
+     * 리그 전체 팀 추천 리포트
+     * - 팀 × 후보 점수 행렬로 한 번에 계산 (저장 없음)
+     */
+    @GetMapping("/league/{season}")
+    public Map<Long, List<ScoutRecommendation>> leagueReport(
+            @PathVariable int season
+    ) {
+        return scoutBatchService.leagueReport(season);
+    }
+
     /**
      * LLM 추천 사유 생성
      */
@@ -0,0 +1,409 @@
+package eplscout.dao;
+
+import eplscout.db.DBUtil;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * IdResolver
+ *
+ * - 외부 API ID → 내부 PK 변환 전담 (메모리 캐시)
+ *   api_player_id          → player_id
+ *   (api_team_id, season)  → team_id
+ *
+ * 설계 포인트
+ * - preload로 한 번에 적재 후 메모리에서 조회
+ * - 캐시에 없는 ID는 IN (...) 일괄 조회로 채움
+ * - DB 조회는 잠금 밖에서 실행 → 조회 후 잠금 안에서 결과만 반영 (load-then-put)
+ *   (한 스레드의 조회가 다른 스레드의 캐시 적중을 막지 않음)
+ *
+ * 음수 캐시 규칙 (호출 측 계약)
+ * - DB에도 없는 ID는 MISSING(-1) 으로 캐시 → 반복 조회 방지
+ * - 조회 결과 없음은 기존 DAO 규칙대로 0 반환
+ * - MISSING 으로 캐시된 ID는 evict 전까지 다시 조회하지 않음
+ *   → 선수/팀을 새로 적재한 쪽은 반드시 evictPlayers / evictTeams 호출
+ * - 조회 도중 evict 가 일어나면 그 조회의 MISSING 결과는 캐시하지 않음
+ */
+@Repository
+public class IdResolver {
+
+    // 조회 실패(없음) 반환값 - 기존 DAO의 0L 반환 규칙과 동일
+    private static final long NOT_FOUND = 0L;
+
+    // 캐시 내부 '없음' 표시값 (실제 PK 는 항상 0보다 큼)
+    private static final long MISSING = -1L;
+
+    // IN (...) 한 번에 넣을 최대 ID 수
+    private static final int IN_CHUNK_SIZE = 500;
+
+    // 캐시 맵 접근 전용 잠금 (DB I/O 중에는 잡지 않음)
+    private final Object lock = new Object();
+
+    private final LongLongMap playerIds = new LongLongMap();
+    private final LongLongMap teamIds = new LongLongMap();
+
+    // evict 횟수 (조회 도중 무효화 감지용, lock 안에서만 변경)
+    private long playerEvictions;
+    private long teamEvictions;
+
+    /* =====================================================
+       1. 선수 ID
+       ===================================================== */
+
+    /**
+     * player 테이블 전체 매핑 적재
+     */
+    public void preloadPlayers() {
+
+        String sql = "SELECT api_player_id, player_id FROM player";
+
+        LongLongMap loaded = new LongLongMap();
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    loaded.put(rs.getInt(1), rs.getLong(2));
+                }
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException("player ID 매핑 적재 실패", e);
+        }
+
+        synchronized (lock) {
+            loaded.forEach(playerIds::put);
+        }
+    }
+
+    /**
+     * 캐시에 없는 선수 ID만 IN (...) 일괄 조회
+     */
+    public void prefetchPlayers(Collection<Integer> apiPlayerIds) {
+
+        List<Integer> misses = new ArrayList<>();
+        long evictions;
+
+        synchronized (lock) {
+            for (int apiPlayerId : apiPlayerIds) {
+                if (!playerIds.containsKey(apiPlayerId)) {
+                    misses.add(apiPlayerId);
+                }
+            }
+            evictions = playerEvictions;
+        }
+
+        if (misses.isEmpty()) return;
+
+        for (int from = 0; from < misses.size(); from += IN_CHUNK_SIZE) {
+
+            List<Integer> chunk =
+                    misses.subList(from, Math.min(from + IN_CHUNK_SIZE, misses.size()));
+
+            String sql =
+                    "SELECT api_player_id, player_id FROM player " +
+                    "WHERE api_player_id IN (" + placeholders(chunk.size()) + ")";
+
+            // 조회 결과 (실패하면 캐시에 아무것도 남기지 않음)
+            LongLongMap found = new LongLongMap();
+
+            try (Connection conn = DBUtil.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setInt(i + 1, chunk.get(i));
+                }
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        found.put(rs.getInt(1), rs.getLong(2));
+                    }
+                }
+
+            } catch (Exception e) {
+                throw new RuntimeException("player ID 일괄 조회 실패", e);
+            }
+
+            synchronized (lock) {
+
+                // 조회 도중 evict 됐으면 '없음' 결과는 오래된 값일 수 있음 → 찾은 것만 반영
+                boolean cacheMissing = evictions == playerEvictions;
+
+                for (int apiPlayerId : chunk) {
+                    long playerId = found.get(apiPlayerId, MISSING);
+                    if (playerId != MISSING || cacheMissing) {
+                        playerIds.put(apiPlayerId, playerId);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * api_player_id → player_id (없으면 0)
+     */
+    public long resolvePlayerId(int apiPlayerId) {
+
+        long cached = cachedPlayerId(apiPlayerId);
+
+        if (cached == NOT_FOUND) {
+            prefetchPlayers(List.of(apiPlayerId));
+            cached = cachedPlayerId(apiPlayerId);
+        }
+
+        return cached > 0 ? cached : NOT_FOUND;
+    }
+
+    /**
+     * 선수 신규 적재 후 호출 (음수 캐시 제거)
+     */
+    public void evictPlayers(Collection<Integer> apiPlayerIds) {
+        synchronized (lock) {
+            for (int apiPlayerId : apiPlayerIds) {
+                playerIds.remove(apiPlayerId);
+            }
+            playerEvictions++;
+        }
+    }
+
+    // 캐시 값 (미적재 0, 없음 MISSING)
+    private long cachedPlayerId(int apiPlayerId) {
+        synchronized (lock) {
+            return playerIds.get(apiPlayerId, NOT_FOUND);
+        }
+    }
+
+    /* =====================================================
+       2. 팀 ID (시즌별)
+       ===================================================== */
+
+    /**
+     * 시즌 기준 팀 매핑 적재
+     */
+    public void preloadTeams(int season) {
+
+        String sql = """
+            SELECT api_team_id, team_id
+            FROM team
+            WHERE season = ?
+        """;
+
+        LongLongMap loaded = new LongLongMap();
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, season);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    loaded.put(teamKey(rs.getInt(1), season), rs.getLong(2));
+                }
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException("team ID 매핑 적재 실패 (season=" + season + ")", e);
+        }
+
+        synchronized (lock) {
+            loaded.forEach(teamIds::put);
+        }
+    }
+
+    /**
+     * (api_team_id, season) → team_id (없으면 0)
+     */
+    public long resolveTeamId(int apiTeamId, int season) {
+
+        long key = teamKey(apiTeamId, season);
+        long evictions;
+
+        synchronized (lock) {
+            long cached = teamIds.get(key, NOT_FOUND);
+            if (cached != NOT_FOUND) {
+                return cached > 0 ? cached : NOT_FOUND;
+            }
+            evictions = teamEvictions;
+        }
+
+        String sql = """
+            SELECT team_id
+            FROM team
+            WHERE api_team_id = ?
+              AND season = ?
+        """;
+
+        long teamId = MISSING;
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, apiTeamId);
+            ps.setInt(2, season);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    teamId = rs.getLong(1);
+                }
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException("팀 ID 조회 실패", e);
+        }
+
+        synchronized (lock) {
+            // 조회 도중 evict 됐으면 '없음' 결과는 캐시하지 않음
+            if (teamId != MISSING || evictions == teamEvictions) {
+                teamIds.put(key, teamId);
+            }
+        }
+
+        return teamId > 0 ? teamId : NOT_FOUND;
+    }
+
+    /**
+     * 팀 신규 적재 후 호출 (해당 시즌 캐시 제거)
+     */
+    public void evictTeams(int season) {
+        synchronized (lock) {
+            teamIds.removeIf(key -> (int) (key >>> 32) == season);
+            teamEvictions++;
+        }
+    }
+
+    /* ===============================
+       내부 유틸
+       =============================== */
+
+    private static long teamKey(int apiTeamId, int season) {
+        return ((long) season << 32) | (apiTeamId & 0xFFFFFFFFL);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", java.util.Collections.nCopies(count, "?"));
+    }
+
+    @FunctionalInterface
+    private interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+
+    /**
+     * long → long 해시맵 (open addressing, 박싱 없음)
+     * - key 0 은 빈 칸 표시로 사용 (API ID / 시즌 키는 항상 0보다 큼)
+     * - 동기화 없음 → IdResolver 캐시는 lock 안에서만 접근
+     */
+    private static final class LongLongMap {
+
+        private long[] keys = new long[1024];
+        private long[] values = new long[1024];
+        private int size;
+
+        boolean containsKey(long key) {
+            return keys[indexOf(key)] == key;
+        }
+
+        long get(long key, long defaultValue) {
+            int idx = indexOf(key);
+            return keys[idx] == key ? values[idx] : defaultValue;
+        }
+
+        void put(long key, long value) {
+
+            int idx = indexOf(key);
+
+            if (keys[idx] != key) {
+                keys[idx] = key;
+                size++;
+            }
+
+            values[idx] = value;
+
+            // 부하율 0.5 초과 시 확장
+            if (size * 2 > keys.length) {
+                resize();
+            }
+        }
+
+        void remove(long key) {
+
+            int idx = indexOf(key);
+            if (keys[idx] != key) return;
+
+            keys[idx] = 0L;
+            size--;
+
+            // 뒤따르는 클러스터 재배치 (tombstone 없이 삭제)
+            int mask = keys.length - 1;
+            int next = (idx + 1) & mask;
+
+            while (keys[next] != 0L) {
+                long k = keys[next];
+                long v = values[next];
+                keys[next] = 0L;
+                size--;
+                put(k, v);
+                next = (next + 1) & mask;
+            }
+        }
+
+        void removeIf(java.util.function.LongPredicate filter) {
+
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+
+            keys = new long[oldKeys.length];
+            values = new long[oldValues.length];
+            size = 0;
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0L && !filter.test(oldKeys[i])) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        void forEach(LongLongConsumer action) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0L) {
+                    action.accept(keys[i], values[i]);
+                }
+            }
+        }
+
+        private int indexOf(long key) {
+
+            int mask = keys.length - 1;
+            int idx = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+
+            while (keys[idx] != 0L && keys[idx] != key) {
+                idx = (idx + 1) & mask;
+            }
+
+            return idx;
+        }
+
+        private void resize() {
+
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+
+            keys = new long[oldKeys.length * 2];
+            values = new long[oldValues.length * 2];
+            size = 0;
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0L) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package eplscout.dao;
 
 import eplscout.db.DBUtil;
+import eplscout.model.StandingRow;
 import org.springframework.stereotype.Repository;
 
 import java.sql.Connection;
@@ -75,6 +76,81 @@ public class LeagueStandingDao {
         }
     }
 
+    /* ==================================================
+       리그 순위 일괄 UPSERT (시즌 순위표 1개 = 트랜잭션 1개)
+       - teamId 가 매핑된 행만 전달
+       ================================================== */
+    public void upsertAll(
+            int leagueId,
+            int season,
+            List<StandingRow> rows
+    ) {
+
+        if (rows == null || rows.isEmpty()) return;
+
+        String sql = """
+            INSERT INTO league_standing
+                (league_id, season, team_id,
+                 `rank`, played, win, draw, lose,
+                 points, goals_for, goals_against, goal_diff,
+                 team_logo)
+            VALUES
+                (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                `rank` = VALUES(`rank`),
+                played = VALUES(played),
+                win = VALUES(win),
+                draw = VALUES(draw),
+                lose = VALUES(lose),
+                points = VALUES(points),
+                goals_for = VALUES(goals_for),
+                goals_against = VALUES(goals_against),
+                goal_diff = VALUES(goal_diff),
+                team_logo = VALUES(team_logo)
+        """;
+
+        try (Connection conn = DBUtil.getConnection()) {
+
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                for (StandingRow row : rows) {
+
+                    ps.setInt(1, leagueId);
+                    ps.setInt(2, season);
+                    ps.setLong(3, row.getTeamId());
+                    ps.setInt(4, row.getRank());
+                    ps.setInt(5, row.getPlayed());
+                    ps.setInt(6, row.getWin());
+                    ps.setInt(7, row.getDraw());
+                    ps.setInt(8, row.getLose());
+                    ps.setInt(9, row.getPoints());
+                    ps.setInt(10, row.getGoalsFor());
+                    ps.setInt(11, row.getGoalsAgainst());
+                    ps.setInt(12, row.getGoalDiff());
+                    ps.setString(13, row.getTeamLogo());
+
+                    ps.addBatch();
+                }
+
+                // 순위표는 최대 20여 행 → 배치 1회
+                ps.executeBatch();
+
+                conn.commit();
+
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException("리그 순위 일괄 저장 실패", e);
+        }
+    }
+
     /* ==================================================
        메인보드 조회용 리그 순위 리스트
        ================================================== */
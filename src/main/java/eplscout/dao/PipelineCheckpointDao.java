@@ -0,0 +1,172 @@
+package eplscout.dao;
+
+import eplscout.db.DBUtil;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * pipeline_checkpoint 전담 DAO
+ * - 수집 파이프라인 완료 단위 기록 / 조회
+ *
+ * 단위 키
+ * - (league_id, season, stage, api_team_id, page)
+ * - 시즌 단위 단계: api_team_id = 0, page = 0
+ * - 팀 단위 완료: page = 0 / 팀 페이지 완료: page >= 1
+ */
+@Repository
+public class PipelineCheckpointDao {
+
+    /* ===============================
+       완료 단위 기록 (중복 기록 무시)
+       =============================== */
+    public void markDone(
+            int leagueId,
+            String stage,
+            int season,
+            int apiTeamId,
+            int page
+    ) {
+
+        String sql = """
+            INSERT IGNORE INTO pipeline_checkpoint
+                (league_id, stage, season, api_team_id, page)
+            VALUES
+                (?, ?, ?, ?, ?)
+        """;
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, leagueId);
+            ps.setString(2, stage);
+            ps.setInt(3, season);
+            ps.setInt(4, apiTeamId);
+            ps.setInt(5, page);
+
+            ps.executeUpdate();
+
+        } catch (Exception e) {
+            throw new RuntimeException(
+                "체크포인트 기록 실패 (" + stage + ", season=" + season +
+                ", apiTeamId=" + apiTeamId + ", page=" + page + ")",
+                e
+            );
+        }
+    }
+
+    /* ===============================
+       시즌 완료 단위 전체 (재실행 시작 시 1회 조회)
+       - 키 형식: key(stage, apiTeamId, page)
+       =============================== */
+    public Set<String> findDone(int leagueId, int season) {
+
+        String sql = """
+            SELECT stage, api_team_id, page
+            FROM pipeline_checkpoint
+            WHERE league_id = ?
+              AND season = ?
+        """;
+
+        Set<String> done = new HashSet<>();
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, leagueId);
+            ps.setInt(2, season);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    done.add(key(
+                            rs.getString("stage"),
+                            rs.getInt("api_team_id"),
+                            rs.getInt("page")));
+                }
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException("체크포인트 조회 실패 (season=" + season + ")", e);
+        }
+
+        return done;
+    }
+
+    /* ===============================
+       시즌 범위 진행 현황
+       - { season: { stage: 완료 단위 수 } } (페이지 단위 제외)
+       =============================== */
+    public Map<Integer, Map<String, Integer>> countByStage(
+            int leagueId,
+            int start,
+            int end
+    ) {
+
+        String sql = """
+            SELECT season, stage, COUNT(*) AS done
+            FROM pipeline_checkpoint
+            WHERE league_id = ?
+              AND season BETWEEN ? AND ?
+              AND page = 0
+            GROUP BY season, stage
+            ORDER BY season
+        """;
+
+        Map<Integer, Map<String, Integer>> counts = new LinkedHashMap<>();
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, leagueId);
+            ps.setInt(2, start);
+            ps.setInt(3, end);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    counts.computeIfAbsent(rs.getInt("season"), s -> new LinkedHashMap<>())
+                          .put(rs.getString("stage"), rs.getInt("done"));
+                }
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException("체크포인트 진행 현황 조회 실패", e);
+        }
+
+        return counts;
+    }
+
+    /* ===============================
+       시즌 범위 체크포인트 삭제 (처음부터 다시 수집)
+       =============================== */
+    public int clear(int leagueId, int start, int end) {
+
+        String sql = """
+            DELETE FROM pipeline_checkpoint
+            WHERE league_id = ?
+              AND season BETWEEN ? AND ?
+        """;
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, leagueId);
+            ps.setInt(2, start);
+            ps.setInt(3, end);
+
+            return ps.executeUpdate();
+
+        } catch (Exception e) {
+            throw new RuntimeException("체크포인트 삭제 실패", e);
+        }
+    }
+
+    public static String key(String stage, int apiTeamId, int page) {
+        return stage + ':' + apiTeamId + ':' + page;
+    }
+}
@@ -1,6 +1,7 @@
 package eplscout.dao;
 
 import eplscout.db.DBUtil;
+import eplscout.model.Player;
 
 import java.sql.*;
 import java.time.LocalDate;
@@ -120,8 +121,27 @@ public class PlayerDao {
     }
 
     /* =====================================================
-        선수 전체 통합 UPSERT (PlayerApiService용)
+        선수 전체 통합 UPSERT (PlayerSeasonStatService용)
+        - 고정 / 시즌성 / 확장 정보 10개 컬럼을 한 문장으로 처리
     ===================================================== */
+    private static final String FULL_UPSERT_SQL = """
+        INSERT INTO player
+            (api_player_id, name, birth_date, photo_url,
+             age, position,
+             shirt_number, nationality, height, weight)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            name = VALUES(name),
+            birth_date = VALUES(birth_date),
+            photo_url = VALUES(photo_url),
+            age = VALUES(age),
+            position = VALUES(position),
+            shirt_number = VALUES(shirt_number),
+            nationality = VALUES(nationality),
+            height = VALUES(height),
+            weight = VALUES(weight)
+    """;
+
     public void upsertFullPlayer(
             int apiPlayerId,
             String name,
@@ -134,9 +154,115 @@ public class PlayerDao {
             String height,
             String weight
     ) {
-        upsertPlayerBase(apiPlayerId, name, birthDate, photoUrl);
-        updateSeasonInfo(apiPlayerId, age, position);
-        updateExtraInfo(apiPlayerId, shirtNumber, nationality, height, weight);
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FULL_UPSERT_SQL)) {
+
+            bindFullPlayer(ps, apiPlayerId, name, birthDate, photoUrl,
+                    age, position, shirtNumber, nationality, height, weight);
+
+            ps.executeUpdate();
+
+        } catch (Exception e) {
+            throw new RuntimeException("player 통합 UPSERT 실패", e);
+        }
+    }
+
+    /* =====================================================
+        선수 전체 통합 UPSERT - 일괄 처리
+        - /players 페이지 1개를 JDBC batch 1회로 적재
+        - age / number 가 0 이면 NULL 저장 (API 미제공 값)
+    ===================================================== */
+    public int upsertFullPlayers(List<Player> players) {
+
+        if (players == null || players.isEmpty()) {
+            return 0;
+        }
+
+        int affected = 0;
+
+        try (Connection conn = DBUtil.getConnection()) {
+
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(FULL_UPSERT_SQL)) {
+
+                for (Player p : players) {
+
+                    bindFullPlayer(
+                            ps,
+                            p.getApiPlayerId(),
+                            p.getName(),
+                            p.getBirthDate(),
+                            p.getPhotoUrl(),
+                            p.getAge() == 0 ? null : p.getAge(),
+                            p.getPosition(),
+                            p.getNumber() == 0 ? null : p.getNumber(),
+                            p.getNationality(),
+                            p.getHeight(),
+                            p.getWeight()
+                    );
+
+                    ps.addBatch();
+                }
+
+                for (int r : ps.executeBatch()) {
+                    affected += r == Statement.SUCCESS_NO_INFO ? 1 : Math.max(r, 0);
+                }
+
+                conn.commit();
+
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    "player 일괄 UPSERT 실패 (rows=" + players.size() + ")", e);
+        }
+
+        return affected;
+    }
+
+    private void bindFullPlayer(
+            PreparedStatement ps,
+            int apiPlayerId,
+            String name,
+            LocalDate birthDate,
+            String photoUrl,
+            Integer age,
+            String position,
+            Integer shirtNumber,
+            String nationality,
+            String height,
+            String weight
+    ) throws SQLException {
+
+        ps.setInt(1, apiPlayerId);
+        ps.setString(2, name);
+
+        if (birthDate != null)
+            ps.setDate(3, java.sql.Date.valueOf(birthDate));
+        else
+            ps.setNull(3, Types.DATE);
+
+        ps.setString(4, photoUrl);
+
+        if (age != null) ps.setInt(5, age);
+        else ps.setNull(5, Types.INTEGER);
+
+        if (position != null) ps.setString(6, position);
+        else ps.setNull(6, Types.VARCHAR);
+
+        if (shirtNumber != null) ps.setInt(7, shirtNumber);
+        else ps.setNull(7, Types.INTEGER);
+
+        ps.setString(8, nationality);
+        ps.setString(9, height);
+        ps.setString(10, weight);
     }
 
     /* =========================
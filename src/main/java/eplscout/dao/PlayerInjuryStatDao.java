@@ -6,6 +6,11 @@ import eplscout.model.PlayerInjuryStat;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Repository;
 
 /**
  * PlayerInjuryStatDao
@@ -13,6 +18,7 @@ import java.sql.ResultSet;
  *  player_injury_stat 테이블 접근 전용 DAO
  *  Service는 직접 JDBC를 사용하지 않음 (계층 분리)
  */
+@Repository
 public class PlayerInjuryStatDao {
 
     /**
@@ -36,27 +42,69 @@ public class PlayerInjuryStatDao {
             try (ResultSet rs = ps.executeQuery()) {
 
                 if (rs.next()) {
+                    return mapRow(rs, playerId, season);
+                }
+            }
 
-                    PlayerInjuryStat stat = new PlayerInjuryStat();
+        } catch (Exception e) {
+            throw new RuntimeException("부상 통계 조회 실패", e);
+        }
 
-                    stat.setPlayerId(playerId);
-                    stat.setSeason(season);
-                    stat.setInjuryGames(rs.getInt("injury_games"));
-                    stat.setInjuryRate(rs.getDouble("injury_rate"));
-                    stat.setRepeatInjuryCount(rs.getInt("repeat_injury_count"));
-                    stat.setTotalInjuryLast3Years(
-                            rs.getInt("total_injury_last3years"));
-                    stat.setCurrentInjured(
-                            rs.getInt("current_injured") == 1);
+        return null;
+    }
 
-                    return stat;
+    /**
+     * 시즌 전체 부상 통계 일괄 조회
+     * - 추천 계산 시 선수별 조회(N+1) 대신 한 번에 적재
+     *
+     * @return { player_id -> PlayerInjuryStat }
+     */
+    public Map<Long, PlayerInjuryStat> findAllBySeason(int season) {
+
+        String sql = """
+            SELECT *
+            FROM player_injury_stat
+            WHERE season = ?
+        """;
+
+        Map<Long, PlayerInjuryStat> result = new HashMap<>();
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, season);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long playerId = rs.getLong("player_id");
+                    result.put(playerId, mapRow(rs, playerId, season));
                 }
             }
 
         } catch (Exception e) {
-            throw new RuntimeException("부상 통계 조회 실패", e);
+            throw new RuntimeException("시즌 부상 통계 일괄 조회 실패", e);
         }
 
-        return null;
+        return result;
+    }
+
+    private PlayerInjuryStat mapRow(
+            ResultSet rs,
+            long playerId,
+            int season) throws SQLException {
+
+        PlayerInjuryStat stat = new PlayerInjuryStat();
+
+        stat.setPlayerId(playerId);
+        stat.setSeason(season);
+        stat.setInjuryGames(rs.getInt("injury_games"));
+        stat.setInjuryRate(rs.getDouble("injury_rate"));
+        stat.setRepeatInjuryCount(rs.getInt("repeat_injury_count"));
+        stat.setTotalInjuryLast3Years(
+                rs.getInt("total_injury_last3years"));
+        stat.setCurrentInjured(
+                rs.getInt("current_injured") == 1);
+
+        return stat;
     }
 }
@@ -2,13 +2,18 @@ package eplscout.dao;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.Date;
 import java.sql.Types;
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Repository;
 
 import eplscout.db.DBUtil;
+import eplscout.model.MatchStatLine;
 
 /**
  * player_match_stat 전담 DAO
@@ -25,6 +30,18 @@ import eplscout.db.DBUtil;
 @Repository
 public class PlayerMatchStatDao {
 
+    // 일괄 UPSERT 시 한 번에 전송할 최대 행 수
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO player_match_stat
+        (player_id, team_id, match_id, season, match_date, minutes_played, rating)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            minutes_played = VALUES(minutes_played),
+            rating = VALUES(rating)
+    """;
+
     public void upsert(
             long playerId,
             Long teamId,          // NULL 허용 (초기 적재 단계)
@@ -35,17 +52,8 @@ public class PlayerMatchStatDao {
             Double rating
     ) {
 
-        String sql = """
-            INSERT INTO player_match_stat
-            (player_id, team_id, match_id, season, match_date, minutes_played, rating)
-            VALUES (?, ?, ?, ?, ?, ?, ?)
-            ON DUPLICATE KEY UPDATE
-                minutes_played = VALUES(minutes_played),
-                rating = VALUES(rating)
-        """;
-
         try (Connection conn = DBUtil.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+             PreparedStatement ps = conn.prepareStatement(UPSERT_SQL)) {
 
             // 1) 내부 player PK
             ps.setLong(1, playerId);
@@ -88,4 +96,105 @@ public class PlayerMatchStatDao {
             );
         }
     }
+
+    /**
+     * 경기 기록 일괄 UPSERT (JDBC batch)
+     * - playerId / teamId 가 매핑된 행만 전달 (0 은 호출 측에서 제외)
+     * - 여러 팀 / 여러 경기 행을 섞어서 전달 가능
+     * - 커넥션 1개 + 트랜잭션 1개, BATCH_SIZE 단위로 executeBatch
+     * - 실패 시 전체 rollback
+     */
+    public void upsertAll(List<MatchStatLine> lines, int season) {
+
+        if (lines == null || lines.isEmpty()) return;
+
+        try (Connection conn = DBUtil.getConnection()) {
+
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(UPSERT_SQL)) {
+
+                int pending = 0;
+
+                for (MatchStatLine line : lines) {
+
+                    ps.setLong(1, line.getPlayerId());
+                    ps.setLong(2, line.getTeamId());
+                    ps.setLong(3, line.getMatchId());
+                    ps.setInt(4, season);
+                    ps.setDate(5, Date.valueOf(line.getMatchDate()));
+                    ps.setInt(6, line.getMinutes());
+
+                    if (line.getRating() != null) {
+                        ps.setDouble(7, line.getRating());
+                    } else {
+                        ps.setNull(7, Types.DECIMAL);
+                    }
+
+                    ps.addBatch();
+
+                    if (++pending == BATCH_SIZE) {
+                        ps.executeBatch();
+                        pending = 0;
+                    }
+                }
+
+                if (pending > 0) {
+                    ps.executeBatch();
+                }
+
+                conn.commit();
+
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException(
+                "player_match_stat 일괄 UPSERT 실패 " +
+                "(season=" + season +
+                ", rows=" + lines.size() + ")",
+                e
+            );
+        }
+    }
+
+    /**
+     * 시즌 적재 완료 경기 ID
+     * - 양 팀 행이 모두 있는 경기만 (한쪽 팀만 적재된 경기는 다시 수집)
+     * - 증분 수집 시 이미 받은 경기 제외용
+     */
+    public Set<Long> findLoadedMatchIds(int season) {
+
+        String sql = """
+            SELECT match_id
+            FROM player_match_stat
+            WHERE season = ?
+            GROUP BY match_id
+            HAVING COUNT(DISTINCT team_id) >= 2
+        """;
+
+        Set<Long> ids = new HashSet<>();
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, season);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong("match_id"));
+                }
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException(
+                "적재 경기 조회 실패 (season=" + season + ")", e);
+        }
+
+        return ids;
+    }
 }
@@ -1,9 +1,18 @@
 package eplscout.dao;
 
 import eplscout.db.DBUtil;
+import eplscout.model.PlayerSeasonStat;
+import eplscout.scoring.SeasonStatSnapshot;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.springframework.stereotype.Repository;
 
@@ -20,6 +29,40 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class PlayerSeasonStatDao {
 
+    // 일괄 UPSERT 시 한 번에 전송할 최대 행 수
+    private static final int BATCH_SIZE = 500;
+
+    // 집계 UPDATE 시 IN 절 1회당 최대 선수 수
+    private static final int AGGREGATE_IN_CHUNK_SIZE = 500;
+
+    // 스냅샷 조회 시 한 번에 수신할 행 수
+    private static final int SNAPSHOT_FETCH_SIZE = 1000;
+
+    // 스냅샷 / 후보 스냅샷 공통 SELECT (WHERE 절은 호출 측에서 추가)
+    private static final String SNAPSHOT_SELECT = """
+            SELECT
+                p.player_id,
+                p.position_code,
+                p.age,
+                p.birth_date,
+                pss.team_id,
+                pss.appearances,
+                pss.minutes_played,
+                pss.avg_rating,
+                pss.goals,
+                pss.assists,
+                pss.shots,
+                pss.key_passes,
+                pss.pass_accuracy,
+                pss.tackles,
+                pss.interceptions,
+                pss.clearances,
+                pss.saves,
+                pss.goals_conceded
+            FROM player_season_stat pss
+            JOIN player p ON pss.player_id = p.player_id
+        """;
+
     /**
      * ============================================
      * 기존 UPSERT (절대 수정 x)
@@ -188,6 +231,150 @@ public class PlayerSeasonStatDao {
         }
     }
 
+    /**
+     * ==========================================================
+     * [ADD] 확장 스탯 일괄 UPSERT (JDBC batch)
+     * - API 페이지(또는 팀 전체) 단위로 한 번에 적재
+     * - 커넥션 1개 + 트랜잭션 1개, BATCH_SIZE 단위로 executeBatch
+     * - 실패 시 전체 rollback (부분 적재 방지)
+     *
+     * @return 배치별 반영 행 수
+     *         (드라이버 bulk 모드에서 행별 결과가 없으면 1행으로 계산)
+     * ==========================================================
+     */
+    public List<Integer> upsertAll(List<PlayerSeasonStat> stats) {
+
+        List<Integer> batchCounts = new ArrayList<>();
+
+        if (stats == null || stats.isEmpty()) {
+            return batchCounts;
+        }
+
+        String sql = """
+            INSERT INTO player_season_stat
+                (player_id, team_id, season,
+                 appearances, minutes_played, avg_rating,
+
+                 goals, assists, shots,
+                 key_passes, pass_accuracy,
+                 tackles, interceptions, clearances,
+                 saves, goals_conceded)
+            VALUES
+                (?, ?, ?, ?, ?, ?,
+                 ?, ?, ?,
+                 ?, ?,
+                 ?, ?, ?,
+                 ?, ?)
+            ON DUPLICATE KEY UPDATE
+                appearances      = VALUES(appearances),
+                minutes_played   = VALUES(minutes_played),
+                avg_rating       = VALUES(avg_rating),
+
+                goals            = VALUES(goals),
+                assists          = VALUES(assists),
+                shots            = VALUES(shots),
+                key_passes       = VALUES(key_passes),
+                pass_accuracy    = VALUES(pass_accuracy),
+                tackles          = VALUES(tackles),
+                interceptions    = VALUES(interceptions),
+                clearances       = VALUES(clearances),
+                saves            = VALUES(saves),
+                goals_conceded   = VALUES(goals_conceded)
+        """;
+
+        try (Connection conn = DBUtil.getConnection()) {
+
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                int pending = 0;
+
+                for (PlayerSeasonStat s : stats) {
+
+                    int idx = 1;
+
+                    // ---------- PK / FK ----------
+                    ps.setLong(idx++, s.getPlayerId());
+                    ps.setLong(idx++, s.getTeamId());
+                    ps.setInt(idx++, s.getSeason());
+
+                    // ---------- base ----------
+                    ps.setInt(idx++, s.getAppearances());
+                    ps.setInt(idx++, s.getMinutesPlayed());
+
+                    if (s.getRating() != null) {
+                        ps.setDouble(idx++, s.getRating());
+                    } else {
+                        ps.setNull(idx++, java.sql.Types.DECIMAL);
+                    }
+
+                    // ---------- attack ----------
+                    ps.setInt(idx++, s.getGoals());
+                    ps.setInt(idx++, s.getAssists());
+                    ps.setInt(idx++, s.getShots());
+
+                    // ---------- pass ----------
+                    ps.setInt(idx++, s.getKeyPasses());
+                    ps.setDouble(idx++,
+                            s.getPassAccuracy() == null ? 0.0 : s.getPassAccuracy());
+
+                    // ---------- defense ----------
+                    ps.setInt(idx++, s.getTackles());
+                    ps.setInt(idx++, s.getInterceptions());
+                    ps.setInt(idx++, s.getClearances());
+
+                    // ---------- goalkeeper ----------
+                    ps.setInt(idx++, s.getSaves());
+                    ps.setInt(idx++, s.getGoalsConceded());
+
+                    ps.addBatch();
+
+                    if (++pending == BATCH_SIZE) {
+                        batchCounts.add(sumBatchResult(ps.executeBatch()));
+                        pending = 0;
+                    }
+                }
+
+                if (pending > 0) {
+                    batchCounts.add(sumBatchResult(ps.executeBatch()));
+                }
+
+                conn.commit();
+
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException(
+                "player_season_stat 일괄 UPSERT 실패 (rows=" + stats.size() + ")",
+                e
+            );
+        }
+
+        return batchCounts;
+    }
+
+    /*
+     * executeBatch 결과 합산
+     * - SUCCESS_NO_INFO(-2): bulk 전송 시 행별 결과 없음 → 1행으로 계산
+     */
+    private int sumBatchResult(int[] results) {
+
+        int sum = 0;
+
+        for (int r : results) {
+            if (r == Statement.SUCCESS_NO_INFO) sum += 1;
+            else if (r > 0) sum += r;
+        }
+
+        return sum;
+    }
+
     /**
      * ==========================================================
      * 기존 시즌 집계 UPDATE (절대 수정 x)
@@ -235,4 +422,230 @@ public class PlayerSeasonStatDao {
             );
         }
     }
+
+    /**
+     * ==========================================================
+     * [ADD] 시즌 집계 일괄 UPDATE (set-based)
+     * - player_match_stat GROUP BY 결과를 UPDATE ... JOIN 으로 한 번에 반영
+     * - playerIds 가 null 이면 시즌 전체, 아니면 해당 선수만
+     *   (IN 절 AGGREGATE_IN_CHUNK_SIZE 단위, 전체 1 트랜잭션)
+     * - 출전 시간 0 인 경기 행(벤치 대기)은 제외
+     *   (appearances = 실제 출전 경기 수 → /players 의 appearences 와 같은 기준)
+     *   minutes = 합계, avg_rating = 평균 / NULL
+     *
+     * @return 반영 행 수 (값이 바뀐 행 기준, 드라이버 설정에 따라 매칭 행)
+     * ==========================================================
+     */
+    public int updateSeasonAggregates(int season, Collection<Long> playerIds) {
+
+        String sql = """
+            UPDATE player_season_stat pss
+            JOIN (
+                SELECT
+                    player_id,
+                    COUNT(*) AS appearances,
+                    SUM(minutes_played) AS total_minutes,
+                    AVG(rating) AS avg_rating
+                FROM player_match_stat
+                WHERE season = ?
+                  AND minutes_played > 0
+                  %s
+                GROUP BY player_id
+            ) agg ON agg.player_id = pss.player_id
+            SET
+                pss.appearances = agg.appearances,
+                pss.minutes_played = agg.total_minutes,
+                pss.avg_rating = agg.avg_rating
+            WHERE pss.season = ?
+        """;
+
+        try (Connection conn = DBUtil.getConnection()) {
+
+            conn.setAutoCommit(false);
+
+            int updated = 0;
+
+            try {
+
+                if (playerIds == null) {
+
+                    try (PreparedStatement ps =
+                                 conn.prepareStatement(sql.formatted(""))) {
+
+                        ps.setInt(1, season);
+                        ps.setInt(2, season);
+
+                        updated = ps.executeUpdate();
+                    }
+
+                } else {
+
+                    List<Long> ids = new ArrayList<>(playerIds);
+
+                    for (int from = 0; from < ids.size(); from += AGGREGATE_IN_CHUNK_SIZE) {
+
+                        List<Long> chunk = ids.subList(
+                                from, Math.min(from + AGGREGATE_IN_CHUNK_SIZE, ids.size()));
+
+                        String filter = "AND player_id IN (%s)".formatted(
+                                String.join(",", Collections.nCopies(chunk.size(), "?")));
+
+                        try (PreparedStatement ps =
+                                     conn.prepareStatement(sql.formatted(filter))) {
+
+                            int idx = 1;
+                            ps.setInt(idx++, season);
+                            for (long playerId : chunk) {
+                                ps.setLong(idx++, playerId);
+                            }
+                            ps.setInt(idx, season);
+
+                            updated += ps.executeUpdate();
+                        }
+                    }
+                }
+
+                conn.commit();
+
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+            return updated;
+
+        } catch (Exception e) {
+            throw new RuntimeException(
+                "player_season_stat 시즌 집계 일괄 UPDATE 실패 (season=" + season + ")",
+                e
+            );
+        }
+    }
+
+    /**
+     * ==========================================================
+     * [ADD] 시즌 스냅샷 적재 (추천 점수 계산용)
+     * - player_season_stat JOIN player 를 시즌 단위로 한 번에 읽어
+     *   컬럼 배열(SeasonStatSnapshot)로 변환
+     * - 포지션은 저장된 position_code 를 그대로 사용 (문자열 정규화 없음)
+     * ==========================================================
+     */
+    public SeasonStatSnapshot loadSeasonSnapshot(int season) {
+
+        String sql = SNAPSHOT_SELECT + """
+            WHERE pss.season = ?
+        """;
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, season);
+
+            return readSnapshot(ps, season);
+
+        } catch (Exception e) {
+            throw new RuntimeException(
+                "시즌 스냅샷 적재 실패 (season=" + season + ")",
+                e
+            );
+        }
+    }
+
+    /**
+     * ==========================================================
+     * [ADD] 약점 포지션 후보만 적재 (단일 팀 추천, 스냅샷 미적재 시)
+     * - 포지션은 player.position_code(생성 컬럼) JOIN 으로 SQL 에서 필터링
+     * - 자기 팀 선수 제외
+     * ==========================================================
+     */
+    public SeasonStatSnapshot loadCandidateSnapshot(
+            int season,
+            long excludeTeamId,
+            byte[] positionCodes
+    ) {
+
+        if (positionCodes.length == 0) {
+            return new SeasonStatSnapshot.Builder(season).build();
+        }
+
+        String placeholders = String.join(",",
+                Collections.nCopies(positionCodes.length, "?"));
+
+        String sql = SNAPSHOT_SELECT + """
+            WHERE pss.season = ?
+              AND pss.team_id <> ?
+              AND p.position_code IN (%s)
+        """.formatted(placeholders);
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            int idx = 1;
+            ps.setInt(idx++, season);
+            ps.setLong(idx++, excludeTeamId);
+            for (byte code : positionCodes) {
+                ps.setByte(idx++, code);
+            }
+
+            return readSnapshot(ps, season);
+
+        } catch (Exception e) {
+            throw new RuntimeException(
+                "후보 스냅샷 적재 실패 (season=" + season
+                        + ", excludeTeamId=" + excludeTeamId + ")",
+                e
+            );
+        }
+    }
+
+    /**
+     * 스냅샷 쿼리 결과를 스트리밍으로 읽어 컬럼 배열로 변환
+     */
+    private SeasonStatSnapshot readSnapshot(
+            PreparedStatement ps,
+            int season
+    ) throws SQLException {
+
+        // 결과 전체를 한 번에 버퍼링하지 않고 나눠서 수신
+        ps.setFetchSize(SNAPSHOT_FETCH_SIZE);
+
+        SeasonStatSnapshot.Builder builder =
+                new SeasonStatSnapshot.Builder(season);
+
+        try (ResultSet rs = ps.executeQuery()) {
+
+            while (rs.next()) {
+
+                java.sql.Date birth = rs.getDate("birth_date");
+
+                builder.nextRow()
+                        .playerId(rs.getLong("player_id"))
+                        .teamId(rs.getLong("team_id"))
+                        .positionCode(rs.getByte("position_code"))
+                        .age(rs.getInt("age"))
+                        .birthDate(birth == null ? null : birth.toLocalDate())
+
+                        .appearances(rs.getInt("appearances"))
+                        .minutesPlayed(rs.getInt("minutes_played"))
+                        .rating(rs.getDouble("avg_rating"))
+
+                        .goals(rs.getInt("goals"))
+                        .assists(rs.getInt("assists"))
+                        .shots(rs.getInt("shots"))
+                        .keyPasses(rs.getInt("key_passes"))
+                        .passAccuracy(rs.getDouble("pass_accuracy"))
+
+                        .tackles(rs.getInt("tackles"))
+                        .interceptions(rs.getInt("interceptions"))
+                        .clearances(rs.getInt("clearances"))
+
+                        .saves(rs.getInt("saves"))
+                        .goalsConceded(rs.getInt("goals_conceded"));
+            }
+        }
+
+        return builder.build();
+    }
 }
@@ -1,6 +1,7 @@
 package eplscout.dao;
 
 import eplscout.db.DBUtil;
+import eplscout.model.ScoutRecommendation;
 import org.springframework.stereotype.Repository;
 
 import java.sql.Connection;
@@ -85,6 +86,109 @@ public class ScoutRecommendationDao {
         }
     }
 
+    /* ===============================
+       팀/시즌 추천 결과 일괄 교체
+       - DELETE + INSERT batch 를 한 트랜잭션으로 처리
+       - 커밋 전까지 조회 쪽은 기존 결과를 그대로 봄
+         (빈 테이블 / 일부만 저장된 상태 노출 없음)
+       =============================== */
+    public int replaceForTeamAndSeason(
+            long teamId,
+            int season,
+            List<ScoutRecommendation> recommendations
+    ) {
+        return replaceForTeams(season, Map.of(teamId, recommendations));
+    }
+
+    /* ===============================
+       여러 팀 추천 결과 일괄 교체 (리그 배치용)
+       - 전체 팀을 한 트랜잭션 + INSERT batch 1회로 저장
+       =============================== */
+    public int replaceForTeams(
+            int season,
+            Map<Long, List<ScoutRecommendation>> recommendationsByTeam
+    ) {
+
+        String deleteSql = """
+            DELETE FROM scout_recommendation
+            WHERE team_id = ?
+              AND season = ?
+        """;
+
+        String insertSql = """
+            INSERT INTO scout_recommendation
+                (team_id, player_id, season, position,
+                 score, potential_score, player_value, reason)
+            VALUES
+                (?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                score = VALUES(score),
+                potential_score = VALUES(potential_score),
+                player_value = VALUES(player_value),
+                reason = VALUES(reason),
+                created_at = CURRENT_TIMESTAMP
+        """;
+
+        int inserted = 0;
+
+        try (Connection conn = DBUtil.getConnection()) {
+
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement del = conn.prepareStatement(deleteSql);
+                 PreparedStatement ins = conn.prepareStatement(insertSql)) {
+
+                for (Map.Entry<Long, List<ScoutRecommendation>> entry
+                        : recommendationsByTeam.entrySet()) {
+
+                    long teamId = entry.getKey();
+
+                    del.setLong(1, teamId);
+                    del.setInt(2, season);
+                    del.addBatch();
+
+                    for (ScoutRecommendation r : entry.getValue()) {
+
+                        ins.setLong(1, teamId);
+                        ins.setLong(2, r.getPlayerId());
+                        ins.setInt(3, season);
+                        ins.setString(4, r.getPosition());
+                        ins.setDouble(5, r.getScore());
+                        ins.setDouble(6, r.getPotentialScore());
+                        ins.setDouble(7, r.getPlayerValue());
+                        ins.setString(8, r.getReason());
+
+                        ins.addBatch();
+                        inserted++;
+                    }
+                }
+
+                if (!recommendationsByTeam.isEmpty()) {
+                    del.executeBatch();
+                }
+
+                if (inserted > 0) {
+                    ins.executeBatch();
+                }
+
+                conn.commit();
+
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    "추천 결과 일괄 저장 실패 (teams=" + recommendationsByTeam.keySet()
+                            + ", season=" + season + ")", e);
+        }
+
+        return inserted;
+    }
+
     /* ===============================
        프론트 완전 호환 조회
        =============================== */
@@ -152,6 +152,38 @@ public class TeamDao {
         return ids;
     }
 
+    /* =====================================================
+       3-1. 시즌 기준 내부 team_id 목록 (추천 배치용)
+       ===================================================== */
+    public List<Long> findTeamIdsBySeason(int season) {
+
+        String sql = """
+            SELECT team_id
+            FROM team
+            WHERE season = ?
+            ORDER BY team_id
+        """;
+
+        List<Long> ids = new ArrayList<>();
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, season);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong("team_id"));
+                }
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException("시즌별 team_id 조회 실패", e);
+        }
+
+        return ids;
+    }
+
     /* =====================================================
        4. GUI 전용: 팀 목록 조회 (순위 포함 최종 버전)
        ===================================================== */
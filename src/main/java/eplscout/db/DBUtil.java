@@ -1,32 +1,144 @@
 package eplscout.db;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.PropertyPlaceholderHelper;
+
+import javax.sql.DataSource;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * DBUtil
  * - DB 연결(Connection) 만드는 역할만 담당
  * - SQL 실행 로직(DAO)랑 분리해서 코드가 깔끔해짐
  *
- * (나중에 DB 계정/URL 바뀌면 여기만 고치면 됨)
+ * 커넥션 풀
+ * - 스프링 실행 시 DataSourceConfig가 HikariCP 풀을 주입
+ * - DAO는 기존처럼 getConnection() / close()만 호출 (close = 풀 반납)
+ * - 풀 크기 / 유휴 정리 / 누수 감지 설정은 application.properties 참고
+ *
+ * (나중에 DB 계정/URL 바뀌면 application.properties만 고치면 됨)
  */
 public class DBUtil {
 
     /**
      * DB 이름: epl_scout_db
-     * - serverTimezone은 시간 관련 경고/오류 방지용
-     * - characterEncoding은 한글 깨짐 방지용
+     * - URL / 계정은 application.properties (spring.datasource.*) 한 곳에서 관리
+     *   → 풀(스프링)과 fallback(단독 main 실행 등)이 같은 계정 사용
+     * - ${DB_USER:epl_app} 같은 환경변수 자리표시자도 스프링과 같은 규칙으로 해석
+     *
+     * ※ 풀 주입 전(단독 main 실행 등)에만 사용하는 fallback 설정
      */
-    private static final String URL =
-    "jdbc:mariadb://localhost:3306/epl_scout_db?serverTimezone=Asia/Seoul&characterEncoding=utf8";
+    private static final Properties CONFIG = loadConfig();
 
+    private static final String URL = CONFIG.getProperty("spring.datasource.url");
 
     // DB접속 계정, 비번
-    private static final String USER = "epl_app";
-    private static final String PASSWORD = "Epl!2345";
+    private static final String USER = CONFIG.getProperty("spring.datasource.username");
+    private static final String PASSWORD = CONFIG.getProperty("spring.datasource.password");
+
+    // 스프링이 주입한 커넥션 풀
+    private static volatile DataSource dataSource;
+
+    // 커넥션 대여 대기시간 통계
+    private static final AtomicLong borrowCount = new AtomicLong();
+    private static final AtomicLong borrowWaitNanos = new AtomicLong();
+    private static final AtomicLong maxBorrowWaitNanos = new AtomicLong();
+
+    public static void setDataSource(DataSource ds) {
+        dataSource = ds;
+    }
 
     public static Connection getConnection() throws Exception {
-        // DriverManager가 URL/USER/PW로 DB 연결을 만들어줌
-        return DriverManager.getConnection(URL, USER, PASSWORD);
+
+        DataSource ds = dataSource;
+
+        // 풀이 없으면 기존처럼 DriverManager로 직접 연결
+        if (ds == null) {
+            return DriverManager.getConnection(URL, USER, PASSWORD);
+        }
+
+        long start = System.nanoTime();
+
+        Connection conn = ds.getConnection();
+
+        long waited = System.nanoTime() - start;
+
+        borrowCount.incrementAndGet();
+        borrowWaitNanos.addAndGet(waited);
+        maxBorrowWaitNanos.accumulateAndGet(waited, Math::max);
+
+        return conn;
+    }
+
+    /**
+     * 커넥션 풀 상태 조회 (모니터링용)
+     *
+     * @return { active, idle, total, waiting, borrowCount, avgWaitMs, maxWaitMs }
+     */
+    public static Map<String, Object> getPoolStats() {
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+
+        DataSource ds = dataSource;
+
+        stats.put("pooled", ds != null);
+
+        if (ds instanceof HikariDataSource hikari) {
+
+            stats.put("poolName", hikari.getPoolName());
+            stats.put("minIdle", hikari.getMinimumIdle());
+            stats.put("maxSize", hikari.getMaximumPoolSize());
+
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+
+            if (pool != null) {
+                stats.put("active", pool.getActiveConnections());
+                stats.put("idle", pool.getIdleConnections());
+                stats.put("total", pool.getTotalConnections());
+                stats.put("waiting", pool.getThreadsAwaitingConnection());
+            }
+        }
+
+        long count = borrowCount.get();
+
+        stats.put("borrowCount", count);
+        stats.put("avgWaitMs",
+                count == 0 ? 0.0 : borrowWaitNanos.get() / (double) count / 1_000_000);
+        stats.put("maxWaitMs", maxBorrowWaitNanos.get() / 1_000_000.0);
+
+        return stats;
+    }
+
+    /*
+     * application.properties 읽기 + 환경변수 자리표시자 해석
+     */
+    private static Properties loadConfig() {
+
+        try {
+            Properties raw = PropertiesLoaderUtils.loadAllProperties("application.properties");
+
+            PropertyPlaceholderHelper placeholders =
+                    new PropertyPlaceholderHelper("${", "}", ":", true);
+
+            Properties resolved = new Properties();
+            for (String name : raw.stringPropertyNames()) {
+                resolved.setProperty(name,
+                        placeholders.replacePlaceholders(raw.getProperty(name), System::getenv));
+            }
+
+            return resolved;
+
+        } catch (IOException e) {
+            throw new RuntimeException("application.properties 읽기 실패", e);
+        }
     }
 }
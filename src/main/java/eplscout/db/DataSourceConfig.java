@@ -0,0 +1,19 @@
+package eplscout.db;
+
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSourceConfig
+ *
+ * - 스프링이 만든 HikariCP 풀(spring.datasource.*)을 DBUtil에 연결
+ * - DAO는 new 로 생성되어도 DBUtil을 통해 같은 풀을 사용
+ */
+@Configuration
+public class DataSourceConfig {
+
+    public DataSourceConfig(DataSource dataSource) {
+        DBUtil.setDataSource(dataSource);
+    }
+}
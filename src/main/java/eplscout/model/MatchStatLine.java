@@ -0,0 +1,49 @@
+package eplscout.model;
+
+import java.time.LocalDate;
+
+/**
+ * MatchStatLine
+ *
+ * - 경기 1개 × 선수 1명 출전 기록 (스트리밍 파싱 결과)
+ * - player_match_stat 한 행에 대응
+ * - playerId / teamId 는 적재 전에 API ID → 내부 PK 로 채움
+ */
+public class MatchStatLine {
+
+    private long matchId;          // API fixture.id
+    private LocalDate matchDate;
+
+    private int apiPlayerId;       // API player.id
+    private long playerId;         // 내부 player_id (0 = 미매핑)
+
+    private int apiTeamId;         // API team.id (/fixtures?ids= 응답만 제공)
+    private long teamId;           // 내부 team_id
+
+    private int minutes;
+    private Double rating;         // 출전 기록 없으면 NULL
+
+    public long getMatchId() { return matchId; }
+    public void setMatchId(long matchId) { this.matchId = matchId; }
+
+    public LocalDate getMatchDate() { return matchDate; }
+    public void setMatchDate(LocalDate matchDate) { this.matchDate = matchDate; }
+
+    public int getApiPlayerId() { return apiPlayerId; }
+    public void setApiPlayerId(int apiPlayerId) { this.apiPlayerId = apiPlayerId; }
+
+    public long getPlayerId() { return playerId; }
+    public void setPlayerId(long playerId) { this.playerId = playerId; }
+
+    public int getApiTeamId() { return apiTeamId; }
+    public void setApiTeamId(int apiTeamId) { this.apiTeamId = apiTeamId; }
+
+    public long getTeamId() { return teamId; }
+    public void setTeamId(long teamId) { this.teamId = teamId; }
+
+    public int getMinutes() { return minutes; }
+    public void setMinutes(int minutes) { this.minutes = minutes; }
+
+    public Double getRating() { return rating; }
+    public void setRating(Double rating) { this.rating = rating; }
+}
@@ -32,6 +32,11 @@ public class Player {
     // 선수 사진 URL
     private String photoUrl;
 
+    // 확장 정보 (국적 / 키 / 몸무게) - players API 기준
+    private String nationality;
+    private String height;
+    private String weight;
+
     public Player() {}
 
     // 기존 생성자 (유지)
@@ -119,6 +124,30 @@ public class Player {
         this.photoUrl = photoUrl;
     }
 
+    public String getNationality() {
+        return nationality;
+    }
+
+    public void setNationality(String nationality) {
+        this.nationality = nationality;
+    }
+
+    public String getHeight() {
+        return height;
+    }
+
+    public void setHeight(String height) {
+        this.height = height;
+    }
+
+    public String getWeight() {
+        return weight;
+    }
+
+    public void setWeight(String weight) {
+        this.weight = weight;
+    }
+
     @Override
     public String toString() {
         return "Player{" +
@@ -0,0 +1,23 @@
+package eplscout.model;
+
+/**
+ * PlayerStatLine
+ *
+ * - /players 응답의 선수 1명 (스트리밍 파싱 결과)
+ * - player: 선수 기본 정보 (번호/포지션은 첫 번째 statistics 기준)
+ * - stat  : 요청한 리그/시즌의 누적 스탯 (없으면 null)
+ *           playerId / teamId 는 적재 시 내부 PK 로 채움
+ */
+public class PlayerStatLine {
+
+    private final Player player;
+    private final PlayerSeasonStat stat;
+
+    public PlayerStatLine(Player player, PlayerSeasonStat stat) {
+        this.player = player;
+        this.stat = stat;
+    }
+
+    public Player getPlayer() { return player; }
+    public PlayerSeasonStat getStat() { return stat; }
+}
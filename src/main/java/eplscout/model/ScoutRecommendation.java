@@ -0,0 +1,72 @@
+package eplscout.model;
+
+/**
+ * ScoutRecommendation
+ *
+ * - scout_recommendation 테이블에 들어갈 추천 결과 한 줄
+ * - 추천 계산 후 팀/시즌 단위로 모아서 일괄 저장
+ */
+public class ScoutRecommendation {
+
+    private long teamId;           // 추천 받는 팀 (내부 team_id)
+    private long playerId;         // 추천 선수 (내부 player_id)
+    private int season;
+
+    private String position;       // 정규화 포지션 (GK/DF/MF/FW)
+
+    private double score;          // 최종 추천 점수
+    private double potentialScore; // 성장 잠재력
+    private double playerValue;    // 선수 가치 (100점 스케일)
+
+    private String reason;         // 추천 사유
+
+    public ScoutRecommendation() {}
+
+    public ScoutRecommendation(
+            long teamId,
+            long playerId,
+            int season,
+            String position,
+            double score,
+            double potentialScore,
+            double playerValue,
+            String reason
+    ) {
+        this.teamId = teamId;
+        this.playerId = playerId;
+        this.season = season;
+        this.position = position;
+        this.score = score;
+        this.potentialScore = potentialScore;
+        this.playerValue = playerValue;
+        this.reason = reason;
+    }
+
+    /* ===============================
+       Getter / Setter
+       =============================== */
+
+    public long getTeamId() { return teamId; }
+    public void setTeamId(long teamId) { this.teamId = teamId; }
+
+    public long getPlayerId() { return playerId; }
+    public void setPlayerId(long playerId) { this.playerId = playerId; }
+
+    public int getSeason() { return season; }
+    public void setSeason(int season) { this.season = season; }
+
+    public String getPosition() { return position; }
+    public void setPosition(String position) { this.position = position; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+
+    public double getPotentialScore() { return potentialScore; }
+    public void setPotentialScore(double potentialScore) { this.potentialScore = potentialScore; }
+
+    public double getPlayerValue() { return playerValue; }
+    public void setPlayerValue(double playerValue) { this.playerValue = playerValue; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+}
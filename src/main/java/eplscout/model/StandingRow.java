@@ -0,0 +1,59 @@
+package eplscout.model;
+
+/**
+ * StandingRow
+ *
+ * - /standings 응답의 순위표 1행 (스트리밍 파싱 결과)
+ * - league_standing 한 행에 대응
+ * - teamId 는 적재 전에 API ID → 내부 PK 로 채움
+ */
+public class StandingRow {
+
+    private int apiTeamId;
+    private long teamId;           // 내부 team_id (0 = 미매핑)
+    private String teamLogo;
+
+    private int rank;
+    private int played;
+    private int win;
+    private int draw;
+    private int lose;
+    private int points;
+    private int goalsFor;
+    private int goalsAgainst;
+
+    public int getApiTeamId() { return apiTeamId; }
+    public void setApiTeamId(int apiTeamId) { this.apiTeamId = apiTeamId; }
+
+    public long getTeamId() { return teamId; }
+    public void setTeamId(long teamId) { this.teamId = teamId; }
+
+    public String getTeamLogo() { return teamLogo; }
+    public void setTeamLogo(String teamLogo) { this.teamLogo = teamLogo; }
+
+    public int getRank() { return rank; }
+    public void setRank(int rank) { this.rank = rank; }
+
+    public int getPlayed() { return played; }
+    public void setPlayed(int played) { this.played = played; }
+
+    public int getWin() { return win; }
+    public void setWin(int win) { this.win = win; }
+
+    public int getDraw() { return draw; }
+    public void setDraw(int draw) { this.draw = draw; }
+
+    public int getLose() { return lose; }
+    public void setLose(int lose) { this.lose = lose; }
+
+    public int getPoints() { return points; }
+    public void setPoints(int points) { this.points = points; }
+
+    public int getGoalsFor() { return goalsFor; }
+    public void setGoalsFor(int goalsFor) { this.goalsFor = goalsFor; }
+
+    public int getGoalsAgainst() { return goalsAgainst; }
+    public void setGoalsAgainst(int goalsAgainst) { this.goalsAgainst = goalsAgainst; }
+
+    public int getGoalDiff() { return goalsFor - goalsAgainst; }
+}
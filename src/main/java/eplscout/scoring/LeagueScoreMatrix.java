@@ -0,0 +1,230 @@
+package eplscout.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * LeagueScoreMatrix
+ *
+ * 역할:
+ * - 팀 × 후보(스냅샷 행) 추천 점수 행렬을 한 번에 계산
+ * - 계산하면서 팀별 포지션 할당량 / 전체 상위 N 선별
+ *
+ * 설계 포인트:
+ * - 팀 블록 단위로 병렬 실행 (블록마다 선별 힙이 독립 → 잠금 없음)
+ *   스레드 풀은 호출 측이 공유 풀로 전달 (호출마다 생성 / 종료 없음)
+ * - 블록 안에서는 후보 행 블록을 바깥 루프로 두어
+ *   같은 행 구간의 컬럼을 여러 팀이 캐시에서 재사용
+ * - 추천 대상이 아닌 칸은 NEGATIVE_INFINITY
+ * - 팀별 계산 시간(점수 + 선별)은 행 블록마다 누적 → getTeamMillis
+ */
+public class LeagueScoreMatrix {
+
+    private static final int TEAM_BLOCK = 4;
+    private static final int ROW_BLOCK = 1024;
+
+    private final List<TeamScoutProfile> teams;
+    private final double[][] scores;
+    private final int[][] topRows;
+    private final long[] teamNanos;
+
+    private LeagueScoreMatrix(
+            List<TeamScoutProfile> teams,
+            double[][] scores,
+            int[][] topRows,
+            long[] teamNanos
+    ) {
+        this.teams = teams;
+        this.scores = scores;
+        this.topRows = topRows;
+        this.teamNanos = teamNanos;
+    }
+
+    /**
+     * 점수 행렬 계산
+     *
+     * @param positionQuotas 포지션 코드별 최대 선별 수
+     * @param topN           팀당 최종 선별 수
+     * @param executor       팀 블록 병렬 실행 풀 (null 이거나 블록 1개면 호출 스레드에서 실행)
+     */
+    public static LeagueScoreMatrix compute(
+            PlayerBaseValues base,
+            List<TeamScoutProfile> teams,
+            RecommendationScorer scorer,
+            int[] positionQuotas,
+            int topN,
+            ExecutorService executor
+    ) {
+
+        int teamCount = teams.size();
+
+        double[][] scores = new double[teamCount][];
+        int[][] topRows = new int[teamCount][];
+        long[] teamNanos = new long[teamCount];
+
+        int blockCount = (teamCount + TEAM_BLOCK - 1) / TEAM_BLOCK;
+
+        if (executor == null || blockCount <= 1) {
+
+            for (int block = 0; block < blockCount; block++) {
+                computeBlock(base, teams, scorer, positionQuotas, topN,
+                        block * TEAM_BLOCK, scores, topRows, teamNanos);
+            }
+
+            return new LeagueScoreMatrix(teams, scores, topRows, teamNanos);
+        }
+
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+
+            for (int block = 0; block < blockCount; block++) {
+
+                int teamFrom = block * TEAM_BLOCK;
+
+                futures.add(executor.submit(() ->
+                        computeBlock(base, teams, scorer, positionQuotas, topN,
+                                teamFrom, scores, topRows, teamNanos)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+        } catch (Exception e) {
+            // 남은 블록 취소 (공유 풀이라 종료하지 않음)
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            throw new RuntimeException("추천 점수 행렬 계산 실패", e);
+        }
+
+        return new LeagueScoreMatrix(teams, scores, topRows, teamNanos);
+    }
+
+    /**
+     * 팀 블록 1개 계산 (teamFrom ~ teamFrom + TEAM_BLOCK)
+     * - 각 팀의 scores / topRows / teamNanos 칸만 채움 (블록 간 공유 없음)
+     */
+    private static void computeBlock(
+            PlayerBaseValues base,
+            List<TeamScoutProfile> teams,
+            RecommendationScorer scorer,
+            int[] positionQuotas,
+            int topN,
+            int teamFrom,
+            double[][] scores,
+            int[][] topRows,
+            long[] teamNanos
+    ) {
+
+        SeasonStatSnapshot snapshot = base.getSnapshot();
+
+        int size = snapshot.size();
+        int teamTo = Math.min(teamFrom + TEAM_BLOCK, teams.size());
+
+        // 팀별 × 포지션별 선별 힙
+        List<List<TopKSelector<Integer>>> selectors = new ArrayList<>();
+
+        for (int t = teamFrom; t < teamTo; t++) {
+
+            TeamScoutProfile team = teams.get(t);
+
+            double[] row = new double[size];
+            Arrays.fill(row, Double.NEGATIVE_INFINITY);
+            scores[t] = row;
+
+            List<TopKSelector<Integer>> byPosition =
+                    new ArrayList<>(SeasonStatSnapshot.POSITION_CODE_COUNT);
+
+            for (byte code = 0; code < SeasonStatSnapshot.POSITION_CODE_COUNT; code++) {
+                byPosition.add(team.isWeak(code)
+                        ? new TopKSelector<>(positionQuotas[code])
+                        : null);
+            }
+
+            selectors.add(byPosition);
+        }
+
+        for (int rowFrom = 0; rowFrom < size; rowFrom += ROW_BLOCK) {
+
+            int rowTo = Math.min(rowFrom + ROW_BLOCK, size);
+
+            for (int t = teamFrom; t < teamTo; t++) {
+
+                long teamStart = System.nanoTime();
+
+                TeamScoutProfile team = teams.get(t);
+                double[] teamScores = scores[t];
+                List<TopKSelector<Integer>> byPosition = selectors.get(t - teamFrom);
+
+                for (int r = rowFrom; r < rowTo; r++) {
+
+                    if (!scorer.isCandidate(base, r, team)) {
+                        continue;
+                    }
+
+                    double score = scorer.score(base, r, team);
+                    teamScores[r] = score;
+
+                    TopKSelector<Integer> selector =
+                            byPosition.get(snapshot.getPosition(r));
+
+                    if (selector.accepts(score)) {
+                        selector.add(score, r);
+                    }
+                }
+
+                teamNanos[t] += System.nanoTime() - teamStart;
+            }
+        }
+
+        // 포지션별 상위 후보 병합 → 전체 점수순 상위 N
+        for (int t = teamFrom; t < teamTo; t++) {
+
+            long teamStart = System.nanoTime();
+
+            double[] teamScores = scores[t];
+
+            List<Integer> merged = new ArrayList<>();
+            for (TopKSelector<Integer> selector : selectors.get(t - teamFrom)) {
+                if (selector != null) {
+                    merged.addAll(selector.toSortedList());
+                }
+            }
+
+            merged.sort((a, b) -> Double.compare(teamScores[b], teamScores[a]));
+
+            int count = Math.min(topN, merged.size());
+            int[] top = new int[count];
+            for (int i = 0; i < count; i++) {
+                top[i] = merged.get(i);
+            }
+            topRows[t] = top;
+
+            teamNanos[t] += System.nanoTime() - teamStart;
+        }
+    }
+
+    public int teamCount() { return teams.size(); }
+
+    public TeamScoutProfile getTeam(int index) { return teams.get(index); }
+
+    /**
+     * 팀 index 의 후보 행 점수 (추천 대상 아니면 NEGATIVE_INFINITY)
+     */
+    public double getScore(int teamIndex, int row) { return scores[teamIndex][row]; }
+
+    /**
+     * 팀 index 의 선별 결과 (스냅샷 행 번호, 점수 내림차순)
+     */
+    public int[] getTopRows(int teamIndex) { return topRows[teamIndex]; }
+
+    /**
+     * 팀 index 의 점수 계산 + 선별 시간 (ms)
+     */
+    public double getTeamMillis(int teamIndex) { return teamNanos[teamIndex] / 1_000_000.0; }
+}
@@ -9,6 +9,9 @@ import eplscout.model.PlayerSeasonStat;
  * - 선수 시즌 퍼포먼스 점수 계산
  * - 포지션별 가중치 적용
  * - 단위 정규화 적용 (MF 독식 방지)
+ *
+ * - 객체(PlayerSeasonStat) / 스냅샷(row) / 배치(calculateBatch) 세 경로 모두
+ *   같은 포지션별 공식을 사용 → 결과 동일
  */
 public class PerformanceCalculator {
 
@@ -23,14 +26,85 @@ public class PerformanceCalculator {
         };
     }
 
+    /**
+     * 스냅샷 행 기준 계산 (객체 생성 없음)
+     */
+    public double calculate(SeasonStatSnapshot s, int row) {
+
+        return switch (s.getPosition(row)) {
+            case SeasonStatSnapshot.POS_FW -> fw(
+                    s.getGoals(row), s.getAssists(row), s.getShots(row),
+                    s.getRating(row), s.getMinutesPlayed(row));
+            case SeasonStatSnapshot.POS_MF -> mf(
+                    s.getKeyPasses(row), s.getPassAccuracy(row), s.getTackles(row),
+                    s.getRating(row), s.getMinutesPlayed(row));
+            case SeasonStatSnapshot.POS_DF -> df(
+                    s.getTackles(row), s.getInterceptions(row), s.getClearances(row),
+                    s.getRating(row));
+            case SeasonStatSnapshot.POS_GK -> gk(
+                    s.getSaves(row), s.getRating(row), s.getMinutesPlayed(row),
+                    s.getGoalsConceded(row));
+            default -> 0.0;
+        };
+    }
+
+    /**
+     * 스냅샷 전체 일괄 계산
+     *
+     * - 포지션별 행 목록을 따라 공식 하나씩 연속 실행 (행마다 분기 없음)
+     * - 포지션 미상 행은 0.0
+     *
+     * @param out 결과 배열 (길이 >= snapshot.size(), 행 번호 동일)
+     */
+    public void calculateBatch(SeasonStatSnapshot s, double[] out) {
+
+        if (out.length < s.size()) {
+            throw new RuntimeException(
+                    "결과 배열 크기 부족: " + out.length + " < " + s.size());
+        }
+
+        for (int row : s.rowsOf(SeasonStatSnapshot.POS_UNKNOWN)) {
+            out[row] = 0.0;
+        }
+
+        for (int row : s.rowsOf(SeasonStatSnapshot.POS_FW)) {
+            out[row] = fw(
+                    s.getGoals(row), s.getAssists(row), s.getShots(row),
+                    s.getRating(row), s.getMinutesPlayed(row));
+        }
+
+        for (int row : s.rowsOf(SeasonStatSnapshot.POS_MF)) {
+            out[row] = mf(
+                    s.getKeyPasses(row), s.getPassAccuracy(row), s.getTackles(row),
+                    s.getRating(row), s.getMinutesPlayed(row));
+        }
+
+        for (int row : s.rowsOf(SeasonStatSnapshot.POS_DF)) {
+            out[row] = df(
+                    s.getTackles(row), s.getInterceptions(row), s.getClearances(row),
+                    s.getRating(row));
+        }
+
+        for (int row : s.rowsOf(SeasonStatSnapshot.POS_GK)) {
+            out[row] = gk(
+                    s.getSaves(row), s.getRating(row), s.getMinutesPlayed(row),
+                    s.getGoalsConceded(row));
+        }
+    }
+
     /* ================= FW ================= */
     private double calculateFW(PlayerSeasonStat s) {
+        return fw(s.getGoals(), s.getAssists(), s.getShots(),
+                safe(s.getRating()), s.getMinutesPlayed());
+    }
 
-        double goalsScore = s.getGoals() / 20.0;
-        double assistScore = s.getAssists() / 15.0;
-        double shotScore = s.getShots() / 80.0;
-        double ratingScore = safe(s.getRating()) / 10.0;
-        double minutesScore = calculateMinutesRatio(s);
+    static double fw(int goals, int assists, int shots, double rating, int minutes) {
+
+        double goalsScore = goals / 20.0;
+        double assistScore = assists / 15.0;
+        double shotScore = shots / 80.0;
+        double ratingScore = rating / 10.0;
+        double minutesScore = minutesRatio(minutes);
 
         return (goalsScore * 0.35)
              + (assistScore * 0.2)
@@ -41,12 +115,17 @@ public class PerformanceCalculator {
 
     /* ================= MF ================= */
     private double calculateMF(PlayerSeasonStat s) {
+        return mf(s.getKeyPasses(), safe(s.getPassAccuracy()), s.getTackles(),
+                safe(s.getRating()), s.getMinutesPlayed());
+    }
 
-        double keyPassScore = s.getKeyPasses() / 80.0;
-        double passAccuracyScore = safe(s.getPassAccuracy()) / 100.0;
-        double tackleScore = s.getTackles() / 100.0;
-        double ratingScore = safe(s.getRating()) / 10.0;
-        double minutesScore = calculateMinutesRatio(s);
+    static double mf(int keyPasses, double passAccuracy, int tackles, double rating, int minutes) {
+
+        double keyPassScore = keyPasses / 80.0;
+        double passAccuracyScore = passAccuracy / 100.0;
+        double tackleScore = tackles / 100.0;
+        double ratingScore = rating / 10.0;
+        double minutesScore = minutesRatio(minutes);
 
         return (keyPassScore * 0.25)
              + (passAccuracyScore * 0.2)
@@ -57,11 +136,16 @@ public class PerformanceCalculator {
 
     /* ================= DF ================= */
     private double calculateDF(PlayerSeasonStat s) {
+        return df(s.getTackles(), s.getInterceptions(), s.getClearances(),
+                safe(s.getRating()));
+    }
 
-        double tackleScore = s.getTackles() / 120.0;
-        double interceptionScore = s.getInterceptions() / 80.0;
-        double clearanceScore = s.getClearances() / 200.0;
-        double ratingScore = safe(s.getRating()) / 10.0;
+    static double df(int tackles, int interceptions, int clearances, double rating) {
+
+        double tackleScore = tackles / 120.0;
+        double interceptionScore = interceptions / 80.0;
+        double clearanceScore = clearances / 200.0;
+        double ratingScore = rating / 10.0;
 
         return (tackleScore * 0.3)
              + (interceptionScore * 0.2)
@@ -71,11 +155,16 @@ public class PerformanceCalculator {
 
     /* ================= GK ================= */
     private double calculateGK(PlayerSeasonStat s) {
+        return gk(s.getSaves(), safe(s.getRating()), s.getMinutesPlayed(),
+                s.getGoalsConceded());
+    }
+
+    static double gk(int saves, double rating, int minutes, int goalsConceded) {
 
-        double savesScore = Math.log(s.getSaves() + 1) / 5.0;  // 폭주 방지
-        double ratingScore = safe(s.getRating()) / 10.0;
-        double minutesScore = calculateMinutesRatio(s);
-        double concededPenalty = s.getGoalsConceded() * 0.02;
+        double savesScore = Math.log(saves + 1) / 5.0;  // 폭주 방지
+        double ratingScore = rating / 10.0;
+        double minutesScore = minutesRatio(minutes);
+        double concededPenalty = goalsConceded * 0.02;
 
         return (savesScore * 0.4)
              + (ratingScore * 0.3)
@@ -83,8 +172,8 @@ public class PerformanceCalculator {
              - concededPenalty;
     }
 
-    private double calculateMinutesRatio(PlayerSeasonStat s) {
-        return s.getMinutesPlayed() / (38.0 * 90.0);
+    private static double minutesRatio(int minutesPlayed) {
+        return minutesPlayed / (38.0 * 90.0);
     }
 
     private double safe(Double value) {
@@ -0,0 +1,59 @@
+package eplscout.scoring;
+
+/**
+ * PlayerBaseValues
+ *
+ * 역할:
+ * - 시즌 스냅샷 행별 "팀과 무관한" 선수 가치 구성요소 보관
+ *   (퍼포먼스 점수 / 부상 보정 / 나이 보정 / 부상 플래그)
+ * - 수집 후 시즌당 1회 계산 → 팀별 추천은 레벨 보정만 곱함
+ *
+ * - 행 번호는 SeasonStatSnapshot 과 동일
+ * - 생성 후 불변 (여러 스레드에서 공유 가능)
+ */
+public class PlayerBaseValues {
+
+    // 현재 부상 중 → 추천 제외
+    public static final byte FLAG_CURRENT_INJURED = 1;
+    // 최근 3년 부상 5회 이상 → 포텐셜 감점
+    public static final byte FLAG_INJURY_PRONE = 2;
+
+    private final SeasonStatSnapshot snapshot;
+
+    private final double[] performance;
+    private final double[] injuryFactor;
+    private final double[] ageBonus;
+    private final byte[] flags;
+
+    PlayerBaseValues(
+            SeasonStatSnapshot snapshot,
+            double[] performance,
+            double[] injuryFactor,
+            double[] ageBonus,
+            byte[] flags
+    ) {
+        this.snapshot = snapshot;
+        this.performance = performance;
+        this.injuryFactor = injuryFactor;
+        this.ageBonus = ageBonus;
+        this.flags = flags;
+    }
+
+    public SeasonStatSnapshot getSnapshot() { return snapshot; }
+
+    public int size() { return snapshot.size(); }
+
+    public double getPerformance(int row) { return performance[row]; }
+
+    public double getInjuryFactor(int row) { return injuryFactor[row]; }
+
+    public double getAgeBonus(int row) { return ageBonus[row]; }
+
+    public boolean isCurrentInjured(int row) {
+        return (flags[row] & FLAG_CURRENT_INJURED) != 0;
+    }
+
+    public boolean isInjuryProne(int row) {
+        return (flags[row] & FLAG_INJURY_PRONE) != 0;
+    }
+}
@@ -1,10 +1,12 @@
 package eplscout.scoring;
 
 import eplscout.model.Player;
+import eplscout.model.PlayerInjuryStat;
 import eplscout.model.PlayerSeasonStat;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.Map;
 
 /**
  * PlayerValueCalculator
@@ -16,6 +18,10 @@ import java.time.Period;
  * - 부상 리스크 반영
  *
  * 최종 선수 가치 점수 산출
+ *
+ * - 팀 레벨 보정을 제외한 구성요소는 팀과 무관
+ *   → precompute 로 시즌당 1회 계산 (PlayerBaseValues)
+ *   → 팀별 계산은 레벨 보정만 곱함
  */
 public class PlayerValueCalculator {
 
@@ -39,10 +45,102 @@ public class PlayerValueCalculator {
 
         double performanceScore = performanceCalculator.calculate(stat);
 
-        double ageBonus = calculateAgeBonus(player);
+        return combine(
+                performanceScore,
+                getRealAge(player),
+                safe(stat.getRating()),
+                teamLevel,
+                injuryRate
+        );
+    }
+
+    /**
+     * 시즌 스냅샷 전체의 팀 무관 구성요소 계산
+     *
+     * @param injuryStats   player_id → 시즌 부상 통계
+     * @param referenceDate 나이 계산 기준일 (행마다 now() 호출 안 함)
+     */
+    public PlayerBaseValues precompute(
+            SeasonStatSnapshot snapshot,
+            Map<Long, PlayerInjuryStat> injuryStats,
+            LocalDate referenceDate
+    ) {
+
+        int size = snapshot.size();
+
+        double[] performance = new double[size];
+        double[] injuryFactor = new double[size];
+        double[] ageBonus = new double[size];
+        byte[] flags = new byte[size];
+
+        // 퍼포먼스 점수는 포지션별 일괄 계산
+        performanceCalculator.calculateBatch(snapshot, performance);
+
+        for (int row = 0; row < size; row++) {
+
+            PlayerInjuryStat injuryStat =
+                    injuryStats.get(snapshot.getPlayerId(row));
+
+            double injuryRate = 0.0;
+
+            if (injuryStat != null) {
+                injuryRate = injuryStat.getInjuryRate();
+
+                if (injuryStat.isCurrentInjured()) {
+                    flags[row] |= PlayerBaseValues.FLAG_CURRENT_INJURED;
+                }
+                if (injuryStat.getTotalInjuryLast3Years() >= 5) {
+                    flags[row] |= PlayerBaseValues.FLAG_INJURY_PRONE;
+                }
+            }
+
+            injuryFactor[row] = calculateInjuryFactor(injuryRate);
+            ageBonus[row] = calculateAgeBonus(getRealAge(
+                    snapshot.getBirthEpochDay(row),
+                    snapshot.getAge(row),
+                    referenceDate));
+        }
+
+        return new PlayerBaseValues(
+                snapshot, performance, injuryFactor, ageBonus, flags);
+    }
+
+    /**
+     * 사전 계산값 기준 선수 가치 (팀 레벨 보정만 적용)
+     * - calculateValue 와 같은 연산 순서 → 결과 동일
+     */
+    public double calculateValue(
+            PlayerBaseValues base,
+            int row,
+            double teamLevel
+    ) {
 
         double levelFactor = calculateLevelFactor(
-                safe(stat.getRating()),
+                base.getSnapshot().getRating(row),
+                teamLevel
+        );
+
+        // 강제 컷으로 제외된 경우
+        if (levelFactor == 0.0) {
+            return 0.0;
+        }
+
+        return (base.getPerformance(row) * levelFactor * base.getInjuryFactor(row))
+                + base.getAgeBonus(row);
+    }
+
+    private double combine(
+            double performanceScore,
+            int realAge,
+            double playerRating,
+            double teamLevel,
+            double injuryRate
+    ) {
+
+        double ageBonus = calculateAgeBonus(realAge);
+
+        double levelFactor = calculateLevelFactor(
+                playerRating,
                 teamLevel
         );
 
@@ -51,6 +149,18 @@ public class PlayerValueCalculator {
             return 0.0;
         }
 
+        double injuryFactor = calculateInjuryFactor(injuryRate);
+
+        return (performanceScore * levelFactor * injuryFactor)
+                + ageBonus;
+    }
+
+    /* =============================== */
+    /* 부상 보정 */
+    /* =============================== */
+
+    private double calculateInjuryFactor(double injuryRate) {
+
         // 부상 리스크는 곱셈 감점 방식
         double injuryFactor = 1 - (injuryRate * 0.3);
 
@@ -58,17 +168,14 @@ public class PlayerValueCalculator {
             injuryFactor = 0.7;   // 최소 보정선
         }
 
-        return (performanceScore * levelFactor * injuryFactor)
-                + ageBonus;
+        return injuryFactor;
     }
 
     /* =============================== */
     /* 나이 보정 */
     /* =============================== */
 
-    private double calculateAgeBonus(Player player) {
-
-        int age = getRealAge(player);
+    private double calculateAgeBonus(int age) {
 
         if (age <= 23) return 0.08;
         if (age <= 28) return 0.03;
@@ -88,6 +195,18 @@ public class PlayerValueCalculator {
         return player.getAge();
     }
 
+    private int getRealAge(int birthEpochDay, int age, LocalDate referenceDate) {
+
+        if (birthEpochDay != SeasonStatSnapshot.NO_BIRTH_DATE) {
+            return Period.between(
+                    LocalDate.ofEpochDay(birthEpochDay),
+                    referenceDate
+            ).getYears();
+        }
+
+        return age;
+    }
+
     /* =============================== */
     /* 팀 레벨 매칭 보정 ( 강제 컷 포함) */
     /* =============================== */
@@ -0,0 +1,88 @@
+package eplscout.scoring;
+
+/**
+ * RecommendationScorer
+ *
+ * 역할:
+ * - 후보 1명 × 팀 1개 추천 점수 공식
+ *   최종 점수 = (선수 가치 × 0.7 + 포텐셜 × 5 × 0.3) × 1.2
+ * - 단일 팀 추천 / 리그 점수 행렬이 같은 공식을 사용
+ */
+public class RecommendationScorer {
+
+    private final PlayerValueCalculator playerValueCalculator =
+            new PlayerValueCalculator();
+
+    /**
+     * 추천 대상 여부 (자기 팀 / 약점 외 포지션 / 현재 부상 제외)
+     */
+    public boolean isCandidate(PlayerBaseValues base, int row, TeamScoutProfile team) {
+
+        SeasonStatSnapshot snapshot = base.getSnapshot();
+
+        return snapshot.getTeamId(row) != team.getTeamId()
+                && team.isWeak(snapshot.getPosition(row))
+                && !base.isCurrentInjured(row);
+    }
+
+    /**
+     * 선수 가치 (100점 스케일)
+     *
+     * - 레벨 보정 기준 = 추천 받는 팀 평균 평점 (후보 평점 - 팀 평점 차이로 보정)
+     */
+    public double playerValue(PlayerBaseValues base, int row, TeamScoutProfile team) {
+
+        double playerValue = playerValueCalculator.calculateValue(
+                base, row, team.getTeamLevel());
+
+        return Math.min(playerValue * 100, 100);
+    }
+
+    /**
+     * 성장 잠재력
+     *
+     * 성장 잠재력은 경기력과 분리하여
+     * "연령 기반 성장 가능성 지표"로 설계
+     */
+    public double potential(PlayerBaseValues base, int row, TeamScoutProfile team) {
+
+        int age = base.getSnapshot().getAge(row);
+
+        double ageBase;
+
+        if (age <= 21) ageBase = 10;
+        else if (age <= 24) ageBase = 8;
+        else if (age <= 27) ageBase = 5;
+        else if (age <= 30) ageBase = 2;
+        else ageBase = 0.5;
+
+        double result = ageBase;
+
+        // 고령 팀일 경우 젊은 선수 보정
+        if (team.isAgingTeam() && age <= 24) {
+            result *= 1.2;
+        }
+
+        // 최근 3년 부상 이력 많으면 감점
+        if (base.isInjuryProne(row)) {
+            result *= 0.75;
+        }
+
+        return result;
+    }
+
+    public double finalScore(double playerValue, double potentialScore) {
+
+        double finalScore =
+                (playerValue * 0.7)
+              + (potentialScore * 5 * 0.3);
+
+        return finalScore * 1.2;
+    }
+
+    public double score(PlayerBaseValues base, int row, TeamScoutProfile team) {
+        return finalScore(
+                playerValue(base, row, team),
+                potential(base, row, team));
+    }
+}
@@ -0,0 +1,301 @@
+package eplscout.scoring;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * SeasonStatSnapshot
+ *
+ * 역할:
+ * - 한 시즌의 player_season_stat + player 를 컬럼(배열) 단위로 보관
+ * - 추천 점수 계산 시 DB 재조회 / 행별 객체 생성 없이 스캔
+ *
+ * 설계 포인트:
+ * - 행(row) 번호로 모든 컬럼에 접근 (struct-of-arrays)
+ * - 포지션은 byte 코드로 저장 (GK/DF/MF/FW)
+ * - 수집 배치가 끝나면 SeasonStatSnapshotService가 새로 적재
+ */
+public final class SeasonStatSnapshot {
+
+    /* ===============================
+       포지션 코드
+       =============================== */
+    public static final byte POS_UNKNOWN = 0;
+    public static final byte POS_GK = 1;
+    public static final byte POS_DF = 2;
+    public static final byte POS_MF = 3;
+    public static final byte POS_FW = 4;
+
+    public static final int POSITION_CODE_COUNT = 5;
+
+    // 생년월일 없음 표시값
+    public static final int NO_BIRTH_DATE = Integer.MIN_VALUE;
+
+    private final int season;
+    private final int size;
+
+    /* ===============================
+       식별 / 선수 정보
+       =============================== */
+    private final long[] playerIds;
+    private final long[] teamIds;
+    private final byte[] positions;
+    private final int[] ages;
+    private final int[] birthEpochDays;
+
+    /* ===============================
+       시즌 스탯
+       =============================== */
+    private final int[] appearances;
+    private final int[] minutesPlayed;
+    private final double[] ratings;
+
+    private final int[] goals;
+    private final int[] assists;
+    private final int[] shots;
+    private final int[] keyPasses;
+    private final double[] passAccuracies;
+
+    private final int[] tackles;
+    private final int[] interceptions;
+    private final int[] clearances;
+
+    private final int[] saves;
+    private final int[] goalsConceded;
+
+    // 포지션 코드 → 해당 포지션 행 번호 (오름차순)
+    private final int[][] positionRows;
+
+    private SeasonStatSnapshot(Builder b) {
+
+        this.season = b.season;
+        this.size = b.size;
+
+        this.playerIds = Arrays.copyOf(b.playerIds, size);
+        this.teamIds = Arrays.copyOf(b.teamIds, size);
+        this.positions = Arrays.copyOf(b.positions, size);
+        this.ages = Arrays.copyOf(b.ages, size);
+        this.birthEpochDays = Arrays.copyOf(b.birthEpochDays, size);
+
+        this.appearances = Arrays.copyOf(b.appearances, size);
+        this.minutesPlayed = Arrays.copyOf(b.minutesPlayed, size);
+        this.ratings = Arrays.copyOf(b.ratings, size);
+
+        this.goals = Arrays.copyOf(b.goals, size);
+        this.assists = Arrays.copyOf(b.assists, size);
+        this.shots = Arrays.copyOf(b.shots, size);
+        this.keyPasses = Arrays.copyOf(b.keyPasses, size);
+        this.passAccuracies = Arrays.copyOf(b.passAccuracies, size);
+
+        this.tackles = Arrays.copyOf(b.tackles, size);
+        this.interceptions = Arrays.copyOf(b.interceptions, size);
+        this.clearances = Arrays.copyOf(b.clearances, size);
+
+        this.saves = Arrays.copyOf(b.saves, size);
+        this.goalsConceded = Arrays.copyOf(b.goalsConceded, size);
+
+        this.positionRows = indexPositions(positions, size);
+    }
+
+    private static int[][] indexPositions(byte[] positions, int size) {
+
+        int[] counts = new int[POSITION_CODE_COUNT];
+        for (int row = 0; row < size; row++) {
+            counts[positions[row]]++;
+        }
+
+        int[][] rows = new int[POSITION_CODE_COUNT][];
+        for (int code = 0; code < POSITION_CODE_COUNT; code++) {
+            rows[code] = new int[counts[code]];
+        }
+
+        int[] cursor = new int[POSITION_CODE_COUNT];
+        for (int row = 0; row < size; row++) {
+            byte code = positions[row];
+            rows[code][cursor[code]++] = row;
+        }
+
+        return rows;
+    }
+
+    /* ===============================
+       포지션 코드 변환
+       =============================== */
+
+    /**
+     * API 포지션명 / 약어 → 코드
+     */
+    public static byte positionCode(String position) {
+
+        if (position == null) return POS_UNKNOWN;
+
+        return switch (position) {
+            case "Goalkeeper", "GK" -> POS_GK;
+            case "Defender", "DF" -> POS_DF;
+            case "Midfielder", "MF" -> POS_MF;
+            case "Attacker", "FW" -> POS_FW;
+            default -> POS_UNKNOWN;
+        };
+    }
+
+    /**
+     * 코드 → 정규화 포지션 약어 (GK/DF/MF/FW)
+     */
+    public static String positionName(byte code) {
+        return switch (code) {
+            case POS_GK -> "GK";
+            case POS_DF -> "DF";
+            case POS_MF -> "MF";
+            case POS_FW -> "FW";
+            default -> null;
+        };
+    }
+
+    /* ===============================
+       Getter (row 기준)
+       =============================== */
+
+    public int getSeason() { return season; }
+    public int size() { return size; }
+
+    public long getPlayerId(int row) { return playerIds[row]; }
+    public long getTeamId(int row) { return teamIds[row]; }
+    public byte getPosition(int row) { return positions[row]; }
+    public int getAge(int row) { return ages[row]; }
+    public int getBirthEpochDay(int row) { return birthEpochDays[row]; }
+
+    public int getAppearances(int row) { return appearances[row]; }
+    public int getMinutesPlayed(int row) { return minutesPlayed[row]; }
+    public double getRating(int row) { return ratings[row]; }
+
+    public int getGoals(int row) { return goals[row]; }
+    public int getAssists(int row) { return assists[row]; }
+    public int getShots(int row) { return shots[row]; }
+    public int getKeyPasses(int row) { return keyPasses[row]; }
+    public double getPassAccuracy(int row) { return passAccuracies[row]; }
+
+    public int getTackles(int row) { return tackles[row]; }
+    public int getInterceptions(int row) { return interceptions[row]; }
+    public int getClearances(int row) { return clearances[row]; }
+
+    public int getSaves(int row) { return saves[row]; }
+    public int getGoalsConceded(int row) { return goalsConceded[row]; }
+
+    /**
+     * 포지션별 행 번호 목록 (읽기 전용, 수정 금지)
+     */
+    public int[] rowsOf(byte positionCode) { return positionRows[positionCode]; }
+
+    /**
+     * Builder
+     *
+     * - DAO가 ResultSet을 읽으면서 한 행씩 채움
+     * - nextRow() 호출 후 현재 행의 컬럼을 set
+     */
+    public static final class Builder {
+
+        private final int season;
+        private int size;
+        private int row = -1;
+
+        private long[] playerIds;
+        private long[] teamIds;
+        private byte[] positions;
+        private int[] ages;
+        private int[] birthEpochDays;
+
+        private int[] appearances;
+        private int[] minutesPlayed;
+        private double[] ratings;
+
+        private int[] goals;
+        private int[] assists;
+        private int[] shots;
+        private int[] keyPasses;
+        private double[] passAccuracies;
+
+        private int[] tackles;
+        private int[] interceptions;
+        private int[] clearances;
+
+        private int[] saves;
+        private int[] goalsConceded;
+
+        public Builder(int season) {
+            this.season = season;
+            allocate(256);
+        }
+
+        public Builder nextRow() {
+
+            if (size == playerIds.length) {
+                allocate(size * 2);
+            }
+
+            row = size++;
+            birthEpochDays[row] = NO_BIRTH_DATE;
+            return this;
+        }
+
+        public Builder playerId(long v) { playerIds[row] = v; return this; }
+        public Builder teamId(long v) { teamIds[row] = v; return this; }
+        public Builder position(String v) { positions[row] = SeasonStatSnapshot.positionCode(v); return this; }
+        public Builder positionCode(byte v) {
+            positions[row] = v >= 0 && v < POSITION_CODE_COUNT ? v : POS_UNKNOWN;
+            return this;
+        }
+        public Builder age(int v) { ages[row] = v; return this; }
+
+        public Builder birthDate(LocalDate v) {
+            birthEpochDays[row] = v == null ? NO_BIRTH_DATE : (int) v.toEpochDay();
+            return this;
+        }
+
+        public Builder appearances(int v) { appearances[row] = v; return this; }
+        public Builder minutesPlayed(int v) { minutesPlayed[row] = v; return this; }
+        public Builder rating(double v) { ratings[row] = v; return this; }
+
+        public Builder goals(int v) { goals[row] = v; return this; }
+        public Builder assists(int v) { assists[row] = v; return this; }
+        public Builder shots(int v) { shots[row] = v; return this; }
+        public Builder keyPasses(int v) { keyPasses[row] = v; return this; }
+        public Builder passAccuracy(double v) { passAccuracies[row] = v; return this; }
+
+        public Builder tackles(int v) { tackles[row] = v; return this; }
+        public Builder interceptions(int v) { interceptions[row] = v; return this; }
+        public Builder clearances(int v) { clearances[row] = v; return this; }
+
+        public Builder saves(int v) { saves[row] = v; return this; }
+        public Builder goalsConceded(int v) { goalsConceded[row] = v; return this; }
+
+        public SeasonStatSnapshot build() {
+            return new SeasonStatSnapshot(this);
+        }
+
+        private void allocate(int capacity) {
+
+            playerIds = playerIds == null ? new long[capacity] : Arrays.copyOf(playerIds, capacity);
+            teamIds = teamIds == null ? new long[capacity] : Arrays.copyOf(teamIds, capacity);
+            positions = positions == null ? new byte[capacity] : Arrays.copyOf(positions, capacity);
+            ages = ages == null ? new int[capacity] : Arrays.copyOf(ages, capacity);
+            birthEpochDays = birthEpochDays == null ? new int[capacity] : Arrays.copyOf(birthEpochDays, capacity);
+
+            appearances = appearances == null ? new int[capacity] : Arrays.copyOf(appearances, capacity);
+            minutesPlayed = minutesPlayed == null ? new int[capacity] : Arrays.copyOf(minutesPlayed, capacity);
+            ratings = ratings == null ? new double[capacity] : Arrays.copyOf(ratings, capacity);
+
+            goals = goals == null ? new int[capacity] : Arrays.copyOf(goals, capacity);
+            assists = assists == null ? new int[capacity] : Arrays.copyOf(assists, capacity);
+            shots = shots == null ? new int[capacity] : Arrays.copyOf(shots, capacity);
+            keyPasses = keyPasses == null ? new int[capacity] : Arrays.copyOf(keyPasses, capacity);
+            passAccuracies = passAccuracies == null ? new double[capacity] : Arrays.copyOf(passAccuracies, capacity);
+
+            tackles = tackles == null ? new int[capacity] : Arrays.copyOf(tackles, capacity);
+            interceptions = interceptions == null ? new int[capacity] : Arrays.copyOf(interceptions, capacity);
+            clearances = clearances == null ? new int[capacity] : Arrays.copyOf(clearances, capacity);
+
+            saves = saves == null ? new int[capacity] : Arrays.copyOf(saves, capacity);
+            goalsConceded = goalsConceded == null ? new int[capacity] : Arrays.copyOf(goalsConceded, capacity);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package eplscout.scoring;
+
+/**
+ * TeamScoutProfile
+ *
+ * 역할:
+ * - 추천 점수 계산에 필요한 팀 입력값 묶음
+ *   (팀 레벨 / 고령 팀 여부 / 약점 포지션 마스크)
+ * - TeamSummaryService 결과에서 팀당 1회 생성
+ */
+public class TeamScoutProfile {
+
+    private final long teamId;
+    private final double teamLevel;
+    private final boolean agingTeam;
+
+    // 포지션 코드 → 약점 여부 (SeasonStatSnapshot.POS_*)
+    private final boolean[] weakMask;
+
+    public TeamScoutProfile(
+            long teamId,
+            double teamLevel,
+            boolean agingTeam,
+            boolean[] weakMask
+    ) {
+        this.teamId = teamId;
+        this.teamLevel = teamLevel;
+        this.agingTeam = agingTeam;
+        this.weakMask = weakMask;
+    }
+
+    public long getTeamId() { return teamId; }
+    public double getTeamLevel() { return teamLevel; }
+    public boolean isAgingTeam() { return agingTeam; }
+
+    public boolean isWeak(byte positionCode) { return weakMask[positionCode]; }
+
+    /**
+     * 약점 포지션 코드 목록 (후보 SQL 필터용)
+     */
+    public byte[] weakPositionCodes() {
+
+        int count = 0;
+        for (boolean weak : weakMask) {
+            if (weak) count++;
+        }
+
+        byte[] codes = new byte[count];
+        int idx = 0;
+        for (byte code = 0; code < weakMask.length; code++) {
+            if (weakMask[code]) codes[idx++] = code;
+        }
+        return codes;
+    }
+
+    public boolean hasWeakPosition() {
+        for (boolean weak : weakMask) {
+            if (weak) return true;
+        }
+        return false;
+    }
+}
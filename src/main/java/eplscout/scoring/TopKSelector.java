@@ -0,0 +1,122 @@
+package eplscout.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TopKSelector
+ *
+ * 역할:
+ * - 점수 상위 K개만 유지하는 고정 크기 최소 힙
+ * - 후보 N명 스캔 시 O(N log K), 메모리 O(K)
+ *
+ * 사용:
+ *   if (selector.accepts(score)) selector.add(score, item);
+ *   → accepts 로 먼저 걸러 탈락 후보는 객체 생성 자체를 생략
+ *
+ * - 스레드 안전하지 않음 (팀/포지션 단위 지역 객체로 사용)
+ */
+public class TopKSelector<T> {
+
+    private final int capacity;
+    private final double[] scores;
+    private final Object[] items;
+    private int size;
+
+    public TopKSelector(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        this.scores = new double[this.capacity];
+        this.items = new Object[this.capacity];
+    }
+
+    /**
+     * 해당 점수가 현재 상위 K에 들어갈 수 있는지
+     */
+    public boolean accepts(double score) {
+        if (capacity == 0) return false;
+        return size < capacity || score > scores[0];
+    }
+
+    /**
+     * 후보 추가 (힙이 가득 차면 최저 점수 후보를 교체)
+     */
+    public void add(double score, T item) {
+
+        if (!accepts(score)) {
+            return;
+        }
+
+        if (size < capacity) {
+            scores[size] = score;
+            items[size] = item;
+            siftUp(size++);
+            return;
+        }
+
+        scores[0] = score;
+        items[0] = item;
+        siftDown(0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 점수 내림차순 결과 (힙은 그대로 유지)
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> toSortedList() {
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) order[i] = i;
+
+        Arrays.sort(order,
+                (a, b) -> Double.compare(scores[b], scores[a]));
+
+        List<T> result = new ArrayList<>(size);
+        for (int idx : order) {
+            result.add((T) items[idx]);
+        }
+        return result;
+    }
+
+    /* ================= heap ================= */
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[parent] <= scores[i]) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = (i << 1) + 1;
+            if (left >= size) break;
+
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && scores[right] < scores[left]) {
+                smallest = right;
+            }
+
+            if (scores[i] <= scores[smallest]) break;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double s = scores[a];
+        scores[a] = scores[b];
+        scores[b] = s;
+
+        Object o = items[a];
+        items[a] = items[b];
+        items[b] = o;
+    }
+}
@@ -0,0 +1,261 @@
+package eplscout.service;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * ApiFootballClient
+ *
+ * 역할:
+ * - api-sports(API-Football) HTTP 통신 단일 창구
+ * - 모든 *ApiService 가 이 빈을 통해 호출
+ *
+ * 설계 포인트:
+ * - HttpClient 1개 공유 (커넥션 keep-alive 재사용, HTTP/2 우선)
+ * - gzip 응답 요청 → 수신 측에서 압축 해제
+ * - 요청별 타임아웃
+ * - 응답 본문은 스트림으로 반환 (문자열 전체 복사 없음)
+ * - 요청 한도는 ApiRateLimiter 가 관리 (429 수신 시 대기 후 재시도)
+ * - 동시 요청 슬롯은 응답 본문 스트림을 닫을 때 반납
+ *   (헤더 수신 시점이 아니라 본문 수신 / 캐시 저장이 끝난 뒤)
+ * - 원본 응답은 ApiResponseCache 에 보관 (캐시 적중 시 네트워크 호출 없음)
+ */
+@Component
+public class ApiFootballClient {
+
+    private final String baseUrl;
+    private final String apiKey;
+    private final Duration requestTimeout;
+    private final int maxRetries;
+
+    private final HttpClient client;
+    private final ApiRateLimiter rateLimiter;
+    private final ApiResponseCache responseCache;
+
+    public ApiFootballClient(
+            @Value("${api-football.base-url}") String baseUrl,
+            @Value("${api-football.key}") String apiKey,
+            @Value("${api-football.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${api-football.request-timeout-ms:20000}") long requestTimeoutMs,
+            @Value("${api-football.max-retries:5}") int maxRetries,
+            ApiRateLimiter rateLimiter,
+            ApiResponseCache responseCache
+    ) {
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.maxRetries = maxRetries;
+        this.rateLimiter = rateLimiter;
+        this.responseCache = responseCache;
+
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * GET 호출 → 응답 본문 스트림 (압축 해제 완료)
+     *
+     * - 호출 측에서 반드시 close
+     * - 캐시 적중 시 캐시 본문 반환 (오프라인 모드는 캐시 없으면 예외)
+     * - 429 는 Retry-After(없으면 지수 증가) 만큼 대기 후 재시도
+     * - HTTP 2xx 가 아니면 RuntimeException
+     *
+     * @param path   "/players" 형식
+     * @param params 쿼리 파라미터 (순서 유지하려면 LinkedHashMap)
+     */
+    public InputStream get(String path, Map<String, ?> params)
+            throws IOException, InterruptedException {
+
+        return get(path, params, false);
+    }
+
+    /**
+     * GET 호출 (호출 단위 오프라인 지정)
+     *
+     * @param offline true 면 이 호출은 캐시만 사용 (네트워크 호출 없음)
+     */
+    public InputStream get(String path, Map<String, ?> params, boolean offline)
+            throws IOException, InterruptedException {
+
+        InputStream cached = responseCache.lookup(path, params, offline);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        if (responseCache.isOffline(offline)) {
+            throw new RuntimeException(
+                    "오프라인 재생: 캐시된 응답 없음 " + path + " " + params);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(buildUri(path, params))
+                .timeout(requestTimeout)
+                .header("x-apisports-key", apiKey)
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+
+        HttpResponse<InputStream> response;
+        InputStream body;
+
+        for (int attempt = 0; ; attempt++) {
+
+            rateLimiter.acquire();
+
+            try {
+                response = client.send(
+                        request, HttpResponse.BodyHandlers.ofInputStream());
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                rateLimiter.release();
+                throw e;
+            }
+
+            // 이후 본문 close 시 슬롯 반납
+            body = new PermitStream(response.body());
+
+            rateLimiter.onResponse(response.headers());
+
+            if (response.statusCode() != 429 || attempt >= maxRetries) {
+                break;
+            }
+
+            body.close();
+
+            long delayMs = retryAfterMs(response, attempt);
+
+            System.out.println("[API 429] " + path + " " + delayMs + "ms 대기 후 재시도");
+
+            rateLimiter.backoff(delayMs);
+        }
+
+        boolean gzip = response.headers()
+                .firstValue("Content-Encoding")
+                .map(v -> v.equalsIgnoreCase("gzip"))
+                .orElse(false);
+
+        if (gzip) {
+            try {
+                body = new GZIPInputStream(body);
+            } catch (IOException e) {
+                body.close();
+                throw e;
+            }
+        }
+
+        int status = response.statusCode();
+
+        if (status < 200 || status >= 300) {
+            body.close();
+            throw new RuntimeException(
+                    "API 호출 실패: HTTP " + status + " " + path + " " + params);
+        }
+
+        if (responseCache.isEnabled()) {
+            return responseCache.store(path, params, body);
+        }
+
+        return body;
+    }
+
+    /**
+     * 응답 본문 스트림 (close 시 ApiRateLimiter 동시 요청 슬롯 1회 반납)
+     */
+    private final class PermitStream extends FilterInputStream {
+
+        private boolean released;
+
+        PermitStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!released) {
+                    released = true;
+                    rateLimiter.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * GET 호출 → JSON 객체 (스트림에서 바로 파싱)
+     */
+    public JSONObject getJson(String path, Map<String, ?> params)
+            throws IOException, InterruptedException {
+
+        return getJson(path, params, false);
+    }
+
+    /**
+     * GET 호출 → JSON 객체 (호출 단위 오프라인 지정)
+     */
+    public JSONObject getJson(String path, Map<String, ?> params, boolean offline)
+            throws IOException, InterruptedException {
+
+        try (Reader reader = new InputStreamReader(
+                get(path, params, offline), StandardCharsets.UTF_8)) {
+
+            return new JSONObject(new JSONTokener(reader));
+        }
+    }
+
+    /**
+     * Retry-After(초) 헤더, 없거나 해석 불가면 1s, 2s, 4s ... (최대 64s)
+     */
+    private long retryAfterMs(HttpResponse<?> response, int attempt) {
+
+        long fallback = 1000L << Math.min(attempt, 6);
+
+        try {
+            return response.headers()
+                    .firstValue("Retry-After")
+                    .map(v -> Long.parseLong(v.trim()) * 1000)
+                    .orElse(fallback);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private URI buildUri(String path, Map<String, ?> params) {
+
+        StringBuilder url = new StringBuilder(baseUrl).append(path);
+
+        char sep = '?';
+
+        for (Map.Entry<String, ?> entry : params.entrySet()) {
+            url.append(sep)
+               .append(entry.getKey())
+               .append('=')
+               .append(URLEncoder.encode(
+                       String.valueOf(entry.getValue()), StandardCharsets.UTF_8));
+            sep = '&';
+        }
+
+        return URI.create(url.toString());
+    }
+}
@@ -0,0 +1,232 @@
+package eplscout.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpHeaders;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ApiRateLimiter
+ *
+ * 역할:
+ * - api-sports 요청 한도 관리 (ApiFootballClient 전용)
+ * - 분당 한도: 토큰 버킷 (초당 limit/60 개씩 충전)
+ * - 동시 요청 수: 세마포어
+ * - 일일 한도: 응답 헤더의 남은 요청 수가 0이면 다음 초기화 시각(UTC 00:00)까지 요청 차단
+ *   (초기화 시각이 지나면 차단 해제 → 다음 응답 헤더로 남은 요청 수 다시 확인)
+ * - 동시 요청 슬롯은 응답 본문을 다 읽고 닫을 때 반납 (ApiFootballClient)
+ *
+ * 응답 헤더 반영:
+ * - X-RateLimit-Limit           → 분당 한도 (버킷 크기)
+ * - X-RateLimit-Remaining       → 분당 남은 요청 (토큰 수 상한)
+ * - x-ratelimit-requests-remaining → 일일 남은 요청
+ * - 429 → 버킷 비우고 일정 시간 전체 대기
+ */
+@Component
+public class ApiRateLimiter {
+
+    private final Semaphore inFlight;
+    private final int maxConcurrency;
+
+    // 토큰 버킷 (this 로 동기화)
+    private double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+    private long blockedUntilNanos;
+
+    // 일일 남은 요청 (-1: 아직 모름)
+    private volatile long dailyRemaining = -1;
+
+    // 일일 한도 소진 시 다음 초기화 시각 (epoch ms, 0: 차단 없음)
+    private volatile long dailyResetAtMillis;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong throttledCount = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    public ApiRateLimiter(
+            @Value("${api-football.rate-per-minute:30}") int ratePerMinute,
+            @Value("${api-football.max-concurrency:8}") int maxConcurrency
+    ) {
+        this.capacity = Math.max(1, ratePerMinute);
+        this.tokens = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.inFlight = new Semaphore(this.maxConcurrency, true);
+    }
+
+    /**
+     * 요청 1건 허가 대기 (토큰 1개 + 동시 요청 슬롯 1개)
+     * - 반드시 release() 와 짝으로 호출
+     */
+    public void acquire() throws InterruptedException {
+
+        if (dailyRemaining == 0) {
+
+            if (System.currentTimeMillis() < dailyResetAtMillis) {
+                throw new RuntimeException(
+                        "API 일일 요청 한도 소진 (초기화: "
+                                + Instant.ofEpochMilli(dailyResetAtMillis) + ")");
+            }
+
+            // 초기화 시각 경과 → 다시 모름 상태로 (이번 요청 응답 헤더로 갱신)
+            dailyRemaining = -1;
+            dailyResetAtMillis = 0L;
+        }
+
+        long start = System.nanoTime();
+
+        inFlight.acquire();
+
+        try {
+            takeToken();
+        } catch (InterruptedException | RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+
+        requestCount.incrementAndGet();
+        waitNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    public void release() {
+        inFlight.release();
+    }
+
+    /*
+     * api-sports 일일 한도 초기화 시각 = 다음 UTC 00:00
+     */
+    private static long nextDailyReset() {
+        return LocalDate.now(ZoneOffset.UTC)
+                .plusDays(1)
+                .atStartOfDay(ZoneOffset.UTC)
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    private synchronized void takeToken() throws InterruptedException {
+
+        while (true) {
+
+            long now = System.nanoTime();
+            refill(now);
+
+            long waitNs;
+
+            if (now < blockedUntilNanos) {
+                waitNs = blockedUntilNanos - now;
+            } else if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return;
+            } else {
+                // 토큰 1개가 찰 때까지 (초당 capacity/60 개)
+                waitNs = (long) ((1.0 - tokens) * 60_000_000_000L / capacity);
+            }
+
+            long waitMs = Math.max(1, waitNs / 1_000_000);
+            wait(waitMs);
+        }
+    }
+
+    private void refill(long now) {
+
+        double elapsedSec = (now - lastRefillNanos) / 1_000_000_000.0;
+
+        tokens = Math.min(capacity, tokens + elapsedSec * capacity / 60.0);
+        lastRefillNanos = now;
+    }
+
+    /**
+     * 응답 헤더로 한도 갱신
+     */
+    public void onResponse(HttpHeaders headers) {
+
+        long minuteLimit = headerLong(headers, "x-ratelimit-limit");
+        long minuteRemaining = headerLong(headers, "x-ratelimit-remaining");
+        long daily = headerLong(headers, "x-ratelimit-requests-remaining");
+
+        synchronized (this) {
+
+            refill(System.nanoTime());
+
+            if (minuteLimit > 0 && minuteLimit != (long) capacity) {
+                capacity = minuteLimit;
+                tokens = Math.min(tokens, capacity);
+            }
+
+            // 서버 기준 남은 요청이 더 적으면 맞춤
+            if (minuteRemaining >= 0 && minuteRemaining < tokens) {
+                tokens = minuteRemaining;
+            }
+
+            notifyAll();
+        }
+
+        if (daily >= 0) {
+
+            if (daily == 0 && dailyRemaining != 0) {
+                dailyResetAtMillis = nextDailyReset();
+            }
+
+            dailyRemaining = daily;
+        }
+    }
+
+    /**
+     * 429 수신 → 버킷 비우고 delayMs 동안 전체 대기
+     */
+    public synchronized void backoff(long delayMs) {
+
+        throttledCount.incrementAndGet();
+
+        long until = System.nanoTime() + delayMs * 1_000_000;
+
+        tokens = 0;
+        blockedUntilNanos = Math.max(blockedUntilNanos, until);
+
+        notifyAll();
+    }
+
+    /**
+     * 현재 상태 (모니터링용)
+     */
+    public synchronized Map<String, Object> getStats() {
+
+        refill(System.nanoTime());
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+
+        stats.put("ratePerMinute", (long) capacity);
+        stats.put("tokens", Math.floor(tokens));
+        stats.put("maxConcurrency", maxConcurrency);
+        stats.put("inFlight", maxConcurrency - inFlight.availablePermits());
+        stats.put("dailyRemaining", dailyRemaining);
+        stats.put("dailyResetAt", dailyResetAtMillis == 0L
+                ? null
+                : Instant.ofEpochMilli(dailyResetAtMillis).toString());
+        stats.put("requests", requestCount.get());
+        stats.put("throttled", throttledCount.get());
+        stats.put("totalWaitMs", waitNanos.get() / 1_000_000);
+
+        return stats;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    private static long headerLong(HttpHeaders headers, String name) {
+        try {
+            return headers.firstValue(name).map(Long::parseLong).orElse(-1L);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
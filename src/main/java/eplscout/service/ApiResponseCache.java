@@ -0,0 +1,298 @@
+package eplscout.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ApiResponseCache
+ *
+ * 역할:
+ * - api-sports 원본 응답을 로컬 디스크에 보관 (ApiFootballClient 전용)
+ * - 키 = SHA-256(엔드포인트 + 정렬된 파라미터) → 같은 요청은 같은 파일
+ * - 엔드포인트별 TTL, 종료된 시즌을 종료 후 저장한 응답은 만료 없음
+ * - 오프라인 재생 모드: 네트워크 없이 캐시만으로 파이프라인 실행
+ *   (호출 단위 지정, api-football.cache.offline=true 면 항상 오프라인)
+ * - 정상 응답(errors 비어 있음 + response 있음)만 저장
+ *   → 오류 응답이 만료 없는 캐시로 남아 계속 재생되는 일 방지
+ *
+ * 저장 형식:
+ * - {dir}/{엔드포인트}/{hash}.json.gz (압축 해제된 원본 본문을 gzip 저장)
+ * - 임시 파일에 쓴 뒤 이동 → 동시 실행 중에도 반쯤 쓰인 파일 없음
+ */
+@Component
+public class ApiResponseCache {
+
+    private final boolean enabled;
+    private final Path dir;
+    private final Map<String, Duration> ttls = new HashMap<>();
+    private final Duration defaultTtl;
+
+    // 설정 기본값 (true 면 모든 호출 오프라인)
+    private final boolean offline;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    public ApiResponseCache(
+            @Value("${api-football.cache.enabled:true}") boolean enabled,
+            @Value("${api-football.cache.dir:api-cache}") String dir,
+            @Value("${api-football.cache.ttl-hours:}") String ttlSpec,
+            @Value("${api-football.cache.default-ttl-hours:24}") long defaultTtlHours,
+            @Value("${api-football.cache.offline:false}") boolean offline
+    ) {
+        this.enabled = enabled;
+        this.dir = Paths.get(dir);
+        this.defaultTtl = Duration.ofHours(defaultTtlHours);
+        this.offline = offline;
+
+        // "/teams:168,/standings:6" 형식
+        if (ttlSpec != null && !ttlSpec.isBlank()) {
+            for (String entry : ttlSpec.split(",")) {
+
+                int idx = entry.lastIndexOf(':');
+
+                if (idx <= 0) {
+                    throw new RuntimeException("캐시 TTL 형식 오류: " + entry);
+                }
+
+                ttls.put(entry.substring(0, idx).trim(),
+                        Duration.ofHours(Long.parseLong(entry.substring(idx + 1).trim())));
+            }
+        }
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /**
+     * 호출 단위 오프라인 여부 (설정 기본값 포함)
+     */
+    public boolean isOffline(boolean requested) { return offline || requested; }
+
+    /**
+     * 캐시 조회
+     *
+     * - 오프라인 모드에서는 TTL 무시 (있으면 사용)
+     * @return 압축 해제 스트림, 없거나 만료면 null
+     */
+    public InputStream lookup(String path, Map<String, ?> params, boolean offline)
+            throws IOException {
+
+        if (!enabled) return null;
+
+        Path file = fileFor(path, params);
+
+        if (!Files.exists(file)) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        if (!isOffline(offline)) {
+
+            Instant modified = Files.getLastModifiedTime(file).toInstant();
+
+            if (isImmutable(params, modified)) {
+                hits.incrementAndGet();
+                return new GZIPInputStream(Files.newInputStream(file));
+            }
+
+            Duration ttl = ttls.getOrDefault(path, defaultTtl);
+
+            if (modified.plus(ttl).isBefore(Instant.now())) {
+                misses.incrementAndGet();
+                return null;
+            }
+        }
+
+        hits.incrementAndGet();
+
+        return new GZIPInputStream(Files.newInputStream(file));
+    }
+
+    /**
+     * 응답 본문 저장 후 저장된 내용을 다시 스트림으로 반환
+     * (body 는 이 메서드에서 끝까지 읽고 닫음)
+     *
+     * - 오류 응답(errors 비어 있지 않음 / response 없음)은 저장하지 않고
+     *   임시 파일 내용만 반환 (스트림 close 시 삭제)
+     */
+    public InputStream store(String path, Map<String, ?> params, InputStream body)
+            throws IOException {
+
+        Path file = fileFor(path, params);
+        Path tmp;
+
+        // body 를 먼저 소유 → 디렉터리 / 임시 파일 생성 실패 시에도 닫힘
+        // (ApiFootballClient 의 동시 요청 슬롯이 close 시 반환되기 때문)
+        try (InputStream in = body) {
+
+            Files.createDirectories(file.getParent());
+            tmp = Files.createTempFile(file.getParent(), "tmp-", ".gz");
+
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                in.transferTo(out);
+            } catch (IOException e) {
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+        }
+
+        if (!isCacheable(tmp)) {
+
+            rejected.incrementAndGet();
+
+            System.out.println("[CACHE] 오류 응답 저장 안 함: " + path + " " + params);
+
+            return new GZIPInputStream(
+                    Files.newInputStream(tmp, StandardOpenOption.DELETE_ON_CLOSE));
+        }
+
+        Files.move(tmp, file,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        stores.incrementAndGet();
+
+        return new GZIPInputStream(Files.newInputStream(file));
+    }
+
+    /**
+     * api-sports 정상 응답 여부
+     * - HTTP 200 이어도 요청 오류 / 한도 초과는 errors 에 담겨 옴 (response 비어 있음)
+     * - errors 는 빈 배열 [] 또는 빈 객체 {} 일 때만 정상
+     */
+    private boolean isCacheable(Path gz) {
+
+        boolean hasResponse = false;
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(gz));
+             JsonParser p = JSON.createParser(in)) {
+
+            if (p.nextToken() != JsonToken.START_OBJECT) return false;
+
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+
+                String field = p.getCurrentName();
+                JsonToken value = p.nextToken();
+
+                if (field.equals("errors")) {
+
+                    if (value == JsonToken.START_ARRAY) {
+                        if (p.nextToken() != JsonToken.END_ARRAY) return false;
+                    } else if (value == JsonToken.START_OBJECT) {
+                        if (p.nextToken() != JsonToken.END_OBJECT) return false;
+                    } else if (value != JsonToken.VALUE_NULL) {
+                        return false;
+                    }
+
+                } else {
+
+                    if (field.equals("response")) {
+                        hasResponse = value != JsonToken.VALUE_NULL;
+                    }
+                    p.skipChildren();
+                }
+            }
+
+        } catch (IOException e) {
+            return false;
+        }
+
+        return hasResponse;
+    }
+
+    /**
+     * 종료된 시즌의 응답을 시즌 종료 후에 저장한 파일인지 여부
+     * - EPL 시즌 N 은 N+1 년 6월에 종료 → N+1 년 7월 1일 이후 저장분만 불변
+     * - 시즌 진행 중 저장한 파일(중간 순위 / 누적 스탯)은 시즌이 끝나도 TTL 적용
+     */
+    private boolean isImmutable(Map<String, ?> params, Instant modified) {
+
+        Object season = params.get("season");
+
+        if (season == null) return false;
+
+        try {
+            int s = Integer.parseInt(String.valueOf(season));
+
+            Instant seasonEnd = LocalDate.of(s + 1, 7, 1)
+                    .atStartOfDay(ZoneId.systemDefault())
+                    .toInstant();
+
+            return !modified.isBefore(seasonEnd);
+
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private Path fileFor(String path, Map<String, ?> params) {
+
+        // 파라미터 순서와 무관하게 같은 키
+        StringBuilder key = new StringBuilder(path);
+        for (Map.Entry<String, ?> entry : new TreeMap<>(params).entrySet()) {
+            key.append('&').append(entry.getKey()).append('=').append(entry.getValue());
+        }
+
+        String folder = path.replaceAll("^/+", "").replace('/', '_');
+
+        return dir.resolve(folder).resolve(sha256(key.toString()) + ".json.gz");
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    md.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 캐시 상태 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+
+        stats.put("enabled", enabled);
+        stats.put("offline", offline);
+        stats.put("dir", dir.toAbsolutePath().toString());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("stores", stores.get());
+        stats.put("rejected", rejected.get());
+
+        return stats;
+    }
+}
@@ -0,0 +1,649 @@
+package eplscout.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import eplscout.model.MatchStatLine;
+import eplscout.model.Player;
+import eplscout.model.PlayerSeasonStat;
+import eplscout.model.PlayerStatLine;
+import eplscout.model.StandingRow;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * ApiSportsStreamReader
+ *
+ * 역할:
+ * - api-sports 응답 스트림을 토큰 단위로 읽어 타입 객체로 바로 변환
+ *   (/players → PlayerStatLine, /fixtures/players → MatchStatLine,
+ *    /fixtures?ids= → MatchStatLine, /standings → StandingRow)
+ * - JSON 트리(DOM) 를 만들지 않음 → 페이지 크기와 무관하게 메모리 일정
+ *
+ * 규칙:
+ * - 필드 순서에 의존하지 않음 (객체가 끝난 뒤 완성된 값으로 판단)
+ * - 모르는 필드는 skipChildren 으로 건너뜀
+ * - null / 누락 숫자는 0, 평점 등 선택 값은 null (기존 org.json opt* 와 동일)
+ * - JsonFactory 는 스레드 안전 → 빈 1개 공유
+ */
+@Component
+public class ApiSportsStreamReader {
+
+    private final JsonFactory factory = new JsonFactory();
+
+    // 선수 기록이 확정된 경기 상태 (fixture.status.short)
+    private static final Set<String> FINISHED_STATUS = Set.of("FT", "AET", "PEN");
+
+    @FunctionalInterface
+    private interface ValueHandler {
+        // 현재 토큰 = 값의 시작. 값 전체를 소비해야 함
+        void handle(JsonParser p) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface FieldHandler {
+        // 처리하지 않은 필드는 false 반환 → 호출 측에서 건너뜀
+        boolean handle(String field, JsonParser p) throws IOException;
+    }
+
+    /* ==================================================
+       /players
+       ================================================== */
+
+    /**
+     * /players 페이지 1개 읽기
+     *
+     * @param leagueId 스탯을 고를 리그
+     * @param season   스탯을 고를 시즌
+     * @return paging.total (전체 페이지 수)
+     */
+    public int readPlayers(
+            InputStream in,
+            int leagueId,
+            int season,
+            Consumer<PlayerStatLine> sink
+    ) throws IOException {
+
+        return readEnvelope(in, p -> sink.accept(readPlayerLine(p, leagueId, season)));
+    }
+
+    private PlayerStatLine readPlayerLine(JsonParser p, int leagueId, int season)
+            throws IOException {
+
+        Player player = new Player();
+
+        // [0] = 첫 번째 statistics (번호/포지션), [1] = 요청 리그/시즌 스탯
+        PlayerSeasonStat[] picked = new PlayerSeasonStat[1];
+        boolean[] first = { true };
+
+        forEachField(p, (field, v) -> {
+            switch (field) {
+                case "player" -> readPlayerInfo(v, player);
+                case "statistics" -> forEachElement(v, e -> {
+
+                    StatBlock block = readStatBlock(e);
+
+                    if (first[0]) {
+                        player.setNumber(block.number);
+                        player.setPosition(block.position);
+                        first[0] = false;
+                    }
+
+                    if (picked[0] == null
+                            && block.leagueId == leagueId
+                            && block.season == season) {
+                        picked[0] = block.stat;
+                    }
+                });
+                default -> { return false; }
+            }
+            return true;
+        });
+
+        return new PlayerStatLine(player, picked[0]);
+    }
+
+    private void readPlayerInfo(JsonParser p, Player player) throws IOException {
+
+        forEachField(p, (field, v) -> {
+            switch (field) {
+                case "id" -> player.setApiPlayerId(intValue(v));
+                case "name" -> player.setName(stringValue(v));
+                case "age" -> player.setAge(intValue(v));
+                case "nationality" -> player.setNationality(stringValue(v));
+                case "height" -> player.setHeight(stringValue(v));
+                case "weight" -> player.setWeight(stringValue(v));
+                case "photo" -> player.setPhotoUrl(stringValue(v));
+                case "birth" -> forEachField(v, (bf, bv) -> {
+                    if (!bf.equals("date")) return false;
+                    String date = stringValue(bv);
+                    if (date != null && !date.isEmpty()) {
+                        player.setBirthDate(LocalDate.parse(date));
+                    }
+                    return true;
+                });
+                default -> { return false; }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * statistics 원소 1개 (리그 1개 기준 누적 스탯)
+     */
+    private static final class StatBlock {
+        int leagueId;
+        int season;
+        int number;
+        String position;
+        final PlayerSeasonStat stat = new PlayerSeasonStat();
+    }
+
+    private StatBlock readStatBlock(JsonParser p) throws IOException {
+
+        StatBlock block = new StatBlock();
+        PlayerSeasonStat s = block.stat;
+
+        forEachField(p, (field, v) -> {
+            switch (field) {
+                case "league" -> forEachField(v, (f, x) -> {
+                    switch (f) {
+                        case "id" -> block.leagueId = intValue(x);
+                        case "season" -> block.season = intValue(x);
+                        default -> { return false; }
+                    }
+                    return true;
+                });
+                case "games" -> forEachField(v, (f, x) -> {
+                    switch (f) {
+                        case "appearences" -> s.setAppearances(intValue(x));
+                        case "minutes" -> s.setMinutesPlayed(intValue(x));
+                        case "number" -> block.number = intValue(x);
+                        case "position" -> block.position = stringValue(x);
+                        case "rating" -> s.setRating(doubleOrNull(x));
+                        default -> { return false; }
+                    }
+                    return true;
+                });
+                case "goals" -> forEachField(v, (f, x) -> {
+                    switch (f) {
+                        case "total" -> s.setGoals(intValue(x));
+                        case "assists" -> s.setAssists(intValue(x));
+                        case "conceded" -> s.setGoalsConceded(intValue(x));
+                        default -> { return false; }
+                    }
+                    return true;
+                });
+                case "shots" -> forEachField(v, (f, x) -> {
+                    if (!f.equals("total")) return false;
+                    s.setShots(intValue(x));
+                    return true;
+                });
+                case "passes" -> forEachField(v, (f, x) -> {
+                    switch (f) {
+                        case "key" -> s.setKeyPasses(intValue(x));
+                        case "accuracy" -> {
+                            Double acc = doubleOrNull(x);
+                            s.setPassAccuracy(acc == null ? 0.0 : acc);
+                        }
+                        default -> { return false; }
+                    }
+                    return true;
+                });
+                case "tackles" -> forEachField(v, (f, x) -> {
+                    switch (f) {
+                        case "total" -> s.setTackles(intValue(x));
+                        case "interceptions" -> s.setInterceptions(intValue(x));
+                        default -> { return false; }
+                    }
+                    return true;
+                });
+                case "defense" -> forEachField(v, (f, x) -> {
+                    if (!f.equals("clearances")) return false;
+                    s.setClearances(intValue(x));
+                    return true;
+                });
+                case "goalkeeper" -> forEachField(v, (f, x) -> {
+                    if (!f.equals("saves")) return false;
+                    s.setSaves(intValue(x));
+                    return true;
+                });
+                default -> { return false; }
+            }
+            return true;
+        });
+
+        if (s.getPassAccuracy() == null) {
+            s.setPassAccuracy(0.0);
+        }
+
+        return block;
+    }
+
+    /* ==================================================
+       /fixtures/players
+       ================================================== */
+
+    /**
+     * /fixtures/players 페이지 1개 읽기
+     *
+     * @return paging.total (전체 페이지 수)
+     */
+    public int readFixturePlayers(
+            InputStream in,
+            Consumer<MatchStatLine> sink
+    ) throws IOException {
+
+        return readEnvelope(in, p -> {
+
+            long[] matchId = new long[1];
+            LocalDate[] matchDate = new LocalDate[1];
+            List<MatchStatLine> lines = new ArrayList<>();
+
+            forEachField(p, (field, v) -> {
+                switch (field) {
+                    case "fixture" -> forEachField(v, (f, x) -> {
+                        switch (f) {
+                            case "id" -> matchId[0] = longValue(x);
+                            case "date" -> {
+                                String date = stringValue(x);
+                                if (date != null && date.length() >= 10) {
+                                    matchDate[0] = LocalDate.parse(date.substring(0, 10));
+                                }
+                            }
+                            default -> { return false; }
+                        }
+                        return true;
+                    });
+                    case "players" -> forEachElement(v, e -> lines.add(readMatchLine(e)));
+                    default -> { return false; }
+                }
+                return true;
+            });
+
+            // fixture / players 순서와 무관하게 경기 정보 채운 뒤 방출
+            for (MatchStatLine line : lines) {
+                line.setMatchId(matchId[0]);
+                line.setMatchDate(matchDate[0]);
+                sink.accept(line);
+            }
+        });
+    }
+
+    private MatchStatLine readMatchLine(JsonParser p) throws IOException {
+
+        MatchStatLine line = new MatchStatLine();
+        boolean[] first = { true };
+
+        forEachField(p, (field, v) -> {
+            switch (field) {
+                case "player" -> forEachField(v, (f, x) -> {
+                    if (!f.equals("id")) return false;
+                    line.setApiPlayerId(intValue(x));
+                    return true;
+                });
+                // 첫 번째 statistics 의 games 만 사용 (출전 기록 없으면 0분 / NULL)
+                case "statistics" -> forEachElement(v, e -> {
+                    if (!first[0]) {
+                        e.skipChildren();
+                        return;
+                    }
+                    first[0] = false;
+                    forEachField(e, (f, x) -> {
+                        if (!f.equals("games")) return false;
+                        forEachField(x, (gf, gx) -> {
+                            switch (gf) {
+                                case "minutes" -> line.setMinutes(intValue(gx));
+                                case "rating" -> line.setRating(doubleOrNull(gx));
+                                default -> { return false; }
+                            }
+                            return true;
+                        });
+                        return true;
+                    });
+                });
+                default -> { return false; }
+            }
+            return true;
+        });
+
+        return line;
+    }
+
+    /* ==================================================
+       /fixtures
+       ================================================== */
+
+    /**
+     * /fixtures?league=&season= 목록에서 종료된 경기 ID 만 추출
+     */
+    public void readFinishedFixtureIds(
+            InputStream in,
+            LongConsumer sink
+    ) throws IOException {
+
+        readEnvelope(in, p -> {
+
+            long[] fixtureId = new long[1];
+            String[] status = new String[1];
+
+            forEachField(p, (field, v) -> {
+                if (!field.equals("fixture")) return false;
+                forEachField(v, (f, x) -> {
+                    switch (f) {
+                        case "id" -> fixtureId[0] = longValue(x);
+                        case "status" -> forEachField(x, (sf, sx) -> {
+                            if (!sf.equals("short")) return false;
+                            status[0] = stringValue(sx);
+                            return true;
+                        });
+                        default -> { return false; }
+                    }
+                    return true;
+                });
+                return true;
+            });
+
+            if (fixtureId[0] != 0L && FINISHED_STATUS.contains(status[0])) {
+                sink.accept(fixtureId[0]);
+            }
+        });
+    }
+
+    /**
+     * /fixtures?ids=a-b-c 상세 읽기
+     * - 경기별 players[] = 팀별 { team, players[] } → 양 팀 선수 행 모두 방출
+     * - apiTeamId 포함 (팀 매핑은 호출 측)
+     */
+    public void readFixtureDetails(
+            InputStream in,
+            Consumer<MatchStatLine> sink
+    ) throws IOException {
+
+        readEnvelope(in, p -> {
+
+            long[] matchId = new long[1];
+            LocalDate[] matchDate = new LocalDate[1];
+            List<MatchStatLine> lines = new ArrayList<>();
+
+            forEachField(p, (field, v) -> {
+                switch (field) {
+                    case "fixture" -> forEachField(v, (f, x) -> {
+                        switch (f) {
+                            case "id" -> matchId[0] = longValue(x);
+                            case "date" -> {
+                                String date = stringValue(x);
+                                if (date != null && date.length() >= 10) {
+                                    matchDate[0] = LocalDate.parse(date.substring(0, 10));
+                                }
+                            }
+                            default -> { return false; }
+                        }
+                        return true;
+                    });
+                    case "players" -> forEachElement(v, teamBlock -> {
+
+                        int[] apiTeamId = new int[1];
+                        int from = lines.size();
+
+                        forEachField(teamBlock, (tf, tx) -> {
+                            switch (tf) {
+                                case "team" -> forEachField(tx, (f, x) -> {
+                                    if (!f.equals("id")) return false;
+                                    apiTeamId[0] = intValue(x);
+                                    return true;
+                                });
+                                case "players" -> forEachElement(tx, e -> lines.add(readMatchLine(e)));
+                                default -> { return false; }
+                            }
+                            return true;
+                        });
+
+                        // team / players 순서와 무관하게 팀 ID 채움
+                        for (int i = from; i < lines.size(); i++) {
+                            lines.get(i).setApiTeamId(apiTeamId[0]);
+                        }
+                    });
+                    default -> { return false; }
+                }
+                return true;
+            });
+
+            for (MatchStatLine line : lines) {
+                line.setMatchId(matchId[0]);
+                line.setMatchDate(matchDate[0]);
+                sink.accept(line);
+            }
+        });
+    }
+
+    /* ==================================================
+       /standings
+       ================================================== */
+
+    /**
+     * /standings 읽기 (response[0].league.standings[0] 의 순위표 행)
+     */
+    public void readStandings(
+            InputStream in,
+            Consumer<StandingRow> sink
+    ) throws IOException {
+
+        boolean[] first = { true };
+
+        readEnvelope(in, p -> {
+
+            if (!first[0]) {
+                p.skipChildren();
+                return;
+            }
+            first[0] = false;
+
+            forEachField(p, (field, v) -> {
+                if (!field.equals("league")) return false;
+                forEachField(v, (lf, lv) -> {
+                    if (!lf.equals("standings")) return false;
+
+                    boolean[] firstGroup = { true };
+
+                    forEachElement(lv, group -> {
+                        if (!firstGroup[0]) {
+                            group.skipChildren();
+                            return;
+                        }
+                        firstGroup[0] = false;
+                        forEachElement(group, row -> sink.accept(readStandingRow(row)));
+                    });
+                    return true;
+                });
+                return true;
+            });
+        });
+    }
+
+    private StandingRow readStandingRow(JsonParser p) throws IOException {
+
+        StandingRow row = new StandingRow();
+
+        forEachField(p, (field, v) -> {
+            switch (field) {
+                case "rank" -> row.setRank(intValue(v));
+                case "points" -> row.setPoints(intValue(v));
+                case "team" -> forEachField(v, (f, x) -> {
+                    switch (f) {
+                        case "id" -> row.setApiTeamId(intValue(x));
+                        case "logo" -> row.setTeamLogo(stringValue(x));
+                        default -> { return false; }
+                    }
+                    return true;
+                });
+                case "all" -> forEachField(v, (f, x) -> {
+                    switch (f) {
+                        case "played" -> row.setPlayed(intValue(x));
+                        case "win" -> row.setWin(intValue(x));
+                        case "draw" -> row.setDraw(intValue(x));
+                        case "lose" -> row.setLose(intValue(x));
+                        case "goals" -> forEachField(x, (gf, gx) -> {
+                            switch (gf) {
+                                case "for" -> row.setGoalsFor(intValue(gx));
+                                case "against" -> row.setGoalsAgainst(intValue(gx));
+                                default -> { return false; }
+                            }
+                            return true;
+                        });
+                        default -> { return false; }
+                    }
+                    return true;
+                });
+                default -> { return false; }
+            }
+            return true;
+        });
+
+        return row;
+    }
+
+    /* ==================================================
+       공통: 응답 봉투 / 객체 / 배열 순회
+       ================================================== */
+
+    /**
+     * { paging: { total }, response: [ ... ] } 처리
+     *
+     * @param element response 배열 원소 1개 처리 (원소 전체 소비)
+     * @return paging.total (없으면 1)
+     */
+    private int readEnvelope(InputStream in, ValueHandler element) throws IOException {
+
+        int[] totalPages = { 1 };
+
+        try (JsonParser p = factory.createParser(in)) {
+
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("응답 형식 오류: JSON 객체 아님");
+            }
+
+            forEachField(p, (field, v) -> {
+                switch (field) {
+                    case "paging" -> forEachField(v, (f, x) -> {
+                        if (!f.equals("total")) return false;
+                        totalPages[0] = Math.max(1, intValue(x));
+                        return true;
+                    });
+                    case "response" -> forEachElement(v, element);
+                    default -> { return false; }
+                }
+                return true;
+            });
+        }
+
+        return totalPages[0];
+    }
+
+    /**
+     * 현재 토큰이 START_OBJECT 인 객체의 필드 순회 (END_OBJECT 까지 소비)
+     * - 객체가 아니면 (null 등) 값 전체 건너뜀
+     */
+    private void forEachField(JsonParser p, FieldHandler handler) throws IOException {
+
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+
+            String field = p.currentName();
+            p.nextToken();
+
+            if (!handler.handle(field, p)) {
+                p.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 현재 토큰이 START_ARRAY 인 배열의 원소 순회 (END_ARRAY 까지 소비)
+     * - 배열이 아니면 (null / 빈 객체 등) 값 전체 건너뜀
+     */
+    private void forEachElement(JsonParser p, ValueHandler handler) throws IOException {
+
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return;
+        }
+
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            handler.handle(p);
+        }
+    }
+
+    /* ==================================================
+       스칼라 변환 (숫자 문자열 허용)
+       ================================================== */
+
+    private static int intValue(JsonParser p) throws IOException {
+        return (int) longValue(p);
+    }
+
+    private static long longValue(JsonParser p) throws IOException {
+
+        JsonToken t = p.currentToken();
+
+        if (t == JsonToken.VALUE_NUMBER_INT) return p.getLongValue();
+        if (t == JsonToken.VALUE_NUMBER_FLOAT) return (long) p.getDoubleValue();
+
+        if (t == JsonToken.VALUE_STRING) {
+            try {
+                return Long.parseLong(p.getText().trim());
+            } catch (NumberFormatException e) {
+                return 0L;
+            }
+        }
+
+        p.skipChildren();
+        return 0L;
+    }
+
+    private static Double doubleOrNull(JsonParser p) throws IOException {
+
+        JsonToken t = p.currentToken();
+
+        if (t == JsonToken.VALUE_NUMBER_INT || t == JsonToken.VALUE_NUMBER_FLOAT) {
+            return p.getDoubleValue();
+        }
+
+        if (t == JsonToken.VALUE_STRING) {
+            String text = p.getText().trim();
+            if (text.isEmpty()) return null;
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        p.skipChildren();
+        return null;
+    }
+
+    private static String stringValue(JsonParser p) throws IOException {
+
+        JsonToken t = p.currentToken();
+
+        if (t == JsonToken.VALUE_NULL) return null;
+
+        if (t.isScalarValue()) return p.getText();
+
+        p.skipChildren();
+        return null;
+    }
+}
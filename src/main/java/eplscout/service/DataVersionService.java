@@ -0,0 +1,46 @@
+package eplscout.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataVersionService
+ *
+ * 역할:
+ * - 추천 계산 입력 데이터의 버전(stamp) 관리
+ * - 입력이 바뀔 때마다 버전 증가 → 추천 결과 재계산 필요 여부 판단
+ *
+ * 버전 증가 시점 (모두 시즌 단위):
+ * - 시즌 스탯 / 선수 정보 적재
+ * - 팀 목록 적재 (후보 풀 / 리그 기준값이 같이 바뀜)
+ * - 부상 집계
+ *
+ * ※ 팀 단위 무효화는 없음
+ *   - 팀 하나만 바꾸는 쓰기 경로가 없고, 팀 입력 변경도 리그 전체 후보에 영향
+ *   - 버전은 시즌 단위로만 조회 (팀별 계산 기록은 호출 측이 (시즌, 팀) 키로 보관)
+ */
+@Service
+public class DataVersionService {
+
+    // 전체 단조 증가 카운터 (모든 stamp는 여기서 발급)
+    private final AtomicLong counter = new AtomicLong();
+
+    private final Map<Integer, Long> seasonVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 시즌 현재 입력 버전
+     */
+    public long currentVersion(int season) {
+        return seasonVersions.getOrDefault(season, 0L);
+    }
+
+    /**
+     * 시즌 전체 입력 변경
+     */
+    public void bumpSeason(int season) {
+        seasonVersions.put(season, counter.incrementAndGet());
+    }
+}
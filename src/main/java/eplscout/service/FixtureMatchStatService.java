@@ -0,0 +1,236 @@
+package eplscout.service;
+
+import eplscout.dao.IdResolver;
+import eplscout.dao.PlayerMatchStatDao;
+import eplscout.model.MatchStatLine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * FixtureMatchStatService
+ *
+ * 역할:
+ * - 경기 기준 player_match_stat 적재 (시즌 전체)
+ * - 팀 기준 적재(PlayerMatchStatApiService)는 경기 1개를 양 팀에서 두 번 받음
+ *   → 시즌 경기 ID 목록을 먼저 받고, 경기마다 정확히 1번만 조회
+ *
+ * 처리 흐름:
+ * 1) /fixtures?league=&season= → 종료된 경기 ID 목록
+ * 2) /fixtures?ids=a-b-c (요청당 최대 ids-per-request 개) → 양 팀 선수 기록
+ * 3) 묶음 1개 = 트랜잭션 1개 일괄 UPSERT (양 팀 행 함께)
+ *
+ * - 묶음 조회는 PagedFetcher 로 동시 실행 (묶음 번호 = 페이지 번호)
+ * - 팀 / 선수 매핑 안 되는 행, 경기 날짜 없는 행은 건너뜀 (선수 생성은 선수 수집 단계 담당)
+ * - 적재된 선수는 player_season_stat 출전 / 시간 / 평점 재집계 (전체 / 증분 동일)
+ *
+ * 증분 모드 (incremental = true):
+ * - player_match_stat 에 이미 양 팀 기록이 있는 경기는 조회하지 않음
+ * - 새로 적재된 경기의 선수만 재집계
+ * - 주간 갱신 비용 = 목록 1회 + 새 라운드 경기 묶음
+ */
+@Service
+public class FixtureMatchStatService {
+
+    // /fixtures?ids= 한 요청에 넣을 수 있는 경기 수 상한 (API 제한 20)
+    private static final int MAX_IDS_PER_REQUEST = 20;
+
+    private final PlayerMatchStatDao playerMatchStatDao = new PlayerMatchStatDao();
+
+    private final ApiFootballClient apiClient;
+    private final ApiSportsStreamReader reader;
+    private final PagedFetcher pagedFetcher;
+    private final IdResolver idResolver;
+    private final PlayerSeasonStatCalculatorService calculatorService;
+    private final DataVersionService versionService;
+
+    private final int idsPerRequest;
+
+    public FixtureMatchStatService(
+            ApiFootballClient apiClient,
+            ApiSportsStreamReader reader,
+            PagedFetcher pagedFetcher,
+            IdResolver idResolver,
+            PlayerSeasonStatCalculatorService calculatorService,
+            DataVersionService versionService,
+            @Value("${api-football.fixtures.ids-per-request:20}") int idsPerRequest
+    ) {
+        this.apiClient = apiClient;
+        this.reader = reader;
+        this.pagedFetcher = pagedFetcher;
+        this.idResolver = idResolver;
+        this.calculatorService = calculatorService;
+        this.versionService = versionService;
+        this.idsPerRequest =
+                Math.max(1, Math.min(MAX_IDS_PER_REQUEST, idsPerRequest));
+    }
+
+    /**
+     * 시즌 종료 경기 선수 기록 적재
+     *
+     * @param incremental true 면 이미 적재된 경기 제외 + 영향 선수만 재집계
+     * @return { season, incremental, finished, skipped, fetched, requests, recalculatedPlayers }
+     */
+    public Map<String, Object> loadSeasonMatchStats(
+            int leagueId,
+            int season,
+            boolean incremental
+    ) throws Exception {
+
+        List<Long> finished = fetchFinishedFixtureIds(leagueId, season);
+
+        List<Long> fixtureIds = finished;
+
+        if (incremental) {
+            Set<Long> loaded = playerMatchStatDao.findLoadedMatchIds(season);
+            fixtureIds = new ArrayList<>();
+            for (long id : finished) {
+                if (!loaded.contains(id)) fixtureIds.add(id);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+
+        report.put("season", season);
+        report.put("incremental", incremental);
+        report.put("finished", finished.size());
+        report.put("skipped", finished.size() - fixtureIds.size());
+        report.put("fetched", fixtureIds.size());
+
+        if (fixtureIds.isEmpty()) {
+            System.out.println("[FIXTURE] 새로 적재할 경기 없음 season=" + season);
+            report.put("requests", 1);
+            report.put("recalculatedPlayers", 0);
+            return report;
+        }
+
+        // 시즌 팀 매핑 한 번에 적재
+        idResolver.preloadTeams(season);
+
+        List<Long> targets = fixtureIds;
+        int chunks = (targets.size() + idsPerRequest - 1) / idsPerRequest;
+
+        // 이번 실행에서 기록이 적재된 선수 (소비 스레드 1개에서만 추가)
+        Set<Long> affectedPlayers = new HashSet<>();
+
+        pagedFetcher.fetchAll(
+                chunk -> {
+                    List<Long> ids = targets.subList(
+                            (chunk - 1) * idsPerRequest,
+                            Math.min(chunk * idsPerRequest, targets.size()));
+
+                    return new PagedFetcher.Page<>(chunk, chunks, fetchFixtureLines(ids));
+                },
+                chunk -> saveChunk(season, chunk, affectedPlayers)
+        );
+
+        // 적재된 선수 시즌 누적 재집계 (전체 / 증분 같은 기준)
+        int recalculated =
+                calculatorService.recalculatePlayers(season, affectedPlayers);
+
+        versionService.bumpSeason(season);
+
+        report.put("requests", chunks + 1);
+        report.put("recalculatedPlayers", recalculated);
+
+        System.out.println("[FIXTURE] " + report);
+
+        return report;
+    }
+
+    private List<Long> fetchFinishedFixtureIds(int leagueId, int season)
+            throws Exception {
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("league", leagueId);
+        params.put("season", season);
+
+        List<Long> ids = new ArrayList<>();
+
+        try (InputStream in = apiClient.get("/fixtures", params)) {
+            reader.readFinishedFixtureIds(in, ids::add);
+        }
+
+        return ids;
+    }
+
+    private List<MatchStatLine> fetchFixtureLines(List<Long> ids) throws Exception {
+
+        StringJoiner joined = new StringJoiner("-");
+        for (long id : ids) {
+            joined.add(String.valueOf(id));
+        }
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("ids", joined.toString());
+
+        List<MatchStatLine> lines = new ArrayList<>();
+
+        try (InputStream in = apiClient.get("/fixtures", params)) {
+            reader.readFixtureDetails(in, lines::add);
+        }
+
+        return lines;
+    }
+
+    /**
+     * 경기 묶음 1개 적재 (호출 스레드에서만 실행)
+     */
+    private void saveChunk(
+            int season,
+            PagedFetcher.Page<List<MatchStatLine>> chunk,
+            Set<Long> affectedPlayers
+    ) {
+
+        List<MatchStatLine> lines = chunk.getItems();
+
+        // 묶음 내 전체 선수 ID를 한 번에 매핑 (IN 일괄 조회)
+        List<Integer> apiPlayerIds = new ArrayList<>(lines.size());
+        for (MatchStatLine line : lines) {
+            apiPlayerIds.add(line.getApiPlayerId());
+        }
+        idResolver.prefetchPlayers(apiPlayerIds);
+
+        List<MatchStatLine> rows = new ArrayList<>(lines.size());
+
+        for (MatchStatLine line : lines) {
+
+            // 경기 날짜 없음 (응답 누락) → match_date 적재 불가
+            if (line.getMatchDate() == null) continue;
+
+            long teamId =
+                    idResolver.resolveTeamId(line.getApiTeamId(), season);
+
+            if (teamId == 0L) continue;
+
+            long playerId =
+                    idResolver.resolvePlayerId(line.getApiPlayerId());
+
+            if (playerId == 0L) continue;
+
+            line.setTeamId(teamId);
+            line.setPlayerId(playerId);
+            rows.add(line);
+        }
+
+        // 묶음 1개 (양 팀 전체) = 트랜잭션 1개
+        playerMatchStatDao.upsertAll(rows, season);
+
+        for (MatchStatLine row : rows) {
+            affectedPlayers.add(row.getPlayerId());
+        }
+
+        System.out.println(
+            "[FIXTURE] chunk=" + chunk.getPage() + "/" + chunk.getTotalPages() +
+            " rows=" + rows.size()
+        );
+    }
+}
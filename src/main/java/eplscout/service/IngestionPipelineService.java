@@ -0,0 +1,401 @@
+package eplscout.service;
+
+import eplscout.dao.IdResolver;
+import eplscout.dao.PipelineCheckpointDao;
+import eplscout.dao.TeamDao;
+import eplscout.model.Team;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * IngestionPipelineService
+ *
+ * 역할:
+ * - 시즌 범위 전체 수집 파이프라인 (팀 → 순위 → 선수 + 시즌 스탯)
+ * - 팀 단위 작업을 제한된 스레드 풀에서 병렬 실행
+ * - 실제 요청 속도는 ApiRateLimiter 가 요금제 한도에 맞춰 조절
+ * - offline 실행 시 ApiResponseCache 에 저장된 응답만으로 재생
+ *
+ * 실행 순서:
+ * - 시즌은 순서대로 (팀 매핑 / 스냅샷 갱신이 시즌 단위)
+ * - 시즌 안에서 팀 목록 → 순위는 먼저 순차 수집 (순위 저장에 팀 매핑 필요)
+ * - 팀별 선수 + 시즌 스탯은 병렬 (팀 간 의존 없음)
+ *   /players 페이지 1회 호출로 두 테이블 동시 적재
+ *
+ * 체크포인트 (pipeline_checkpoint):
+ * - 완료 단위: 순위 / 팀 목록 (시즌), 선수 (팀), 선수 페이지 (팀, 페이지), 시즌 전체
+ * - 시즌 전체 완료는 종료된 시즌만 기록 (진행 중 시즌은 성공 시 기록 삭제 → 다음 실행에서 갱신)
+ * - 재실행 시 완료 단위는 건너뜀 → 실패 지점부터 남은 작업만 수행
+ * - restart=true 면 범위 체크포인트 삭제 후 처음부터
+ */
+@Service
+public class IngestionPipelineService {
+
+    private final TeamApiService teamApiService;
+    private final TeamDao teamDao;
+    private final PlayerSeasonStatService statService;
+    private final LeagueStandingService leagueStandingService;
+    private final IdResolver idResolver;
+    private final SeasonStatSnapshotService snapshotService;
+    private final PlayerBaseValueService baseValueService;
+    private final ApiRateLimiter rateLimiter;
+    private final ApiResponseCache responseCache;
+    private final PipelineCheckpointDao checkpointDao;
+    private final DataVersionService versionService;
+
+    /**
+     * 진행 상황 수신 (비동기 작업 상태 조회용)
+     * - 팀 관련 콜백은 팀 작업 스레드에서 동시에 호출될 수 있음
+     */
+    public interface ProgressListener {
+        default void onSeasonStart(int season, int teamCount, int skippedTeams) {}
+        default void onStage(int season, String stage) {}
+        default void onTeamDone(int season, int apiTeamId, int rows) {}
+        default void onTeamFailed(int season, int apiTeamId, Exception error) {}
+        default void onSeasonDone(int season) {}
+    }
+
+    // 진행 상황 수신 없음
+    public static final ProgressListener NO_LISTENER = new ProgressListener() {};
+
+    // 체크포인트 단계 이름
+    private static final String STAGE_STANDINGS = "standings";
+    private static final String STAGE_TEAMS = "teams";
+    private static final String STAGE_PLAYERS = "players";
+    private static final String STAGE_SEASON = "season";
+
+    // 팀 작업 동시 실행 수
+    private final int threads;
+
+    public IngestionPipelineService(
+            TeamApiService teamApiService,
+            TeamDao teamDao,
+            PlayerSeasonStatService statService,
+            LeagueStandingService leagueStandingService,
+            IdResolver idResolver,
+            SeasonStatSnapshotService snapshotService,
+            PlayerBaseValueService baseValueService,
+            ApiRateLimiter rateLimiter,
+            ApiResponseCache responseCache,
+            PipelineCheckpointDao checkpointDao,
+            DataVersionService versionService,
+            @Value("${ingestion.threads:8}") int threads
+    ) {
+        this.teamApiService = teamApiService;
+        this.teamDao = teamDao;
+        this.statService = statService;
+        this.leagueStandingService = leagueStandingService;
+        this.idResolver = idResolver;
+        this.snapshotService = snapshotService;
+        this.baseValueService = baseValueService;
+        this.rateLimiter = rateLimiter;
+        this.responseCache = responseCache;
+        this.checkpointDao = checkpointDao;
+        this.versionService = versionService;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * 시즌 범위 전체 수집
+     *
+     * @param offline true 면 네트워크 없이 캐시만 사용 (이 실행의 호출에만 적용)
+     * @param restart true 면 체크포인트 무시하고 처음부터
+     * @return { seasons, teams, requests, elapsedMs, requestsPerSec, rateLimiter, cache }
+     */
+    public Map<String, Object> runFullPipeline(
+            int leagueId,
+            int start,
+            int end,
+            boolean offline,
+            boolean restart
+    ) throws Exception {
+
+        return runFullPipeline(leagueId, start, end, offline, restart, NO_LISTENER);
+    }
+
+    /**
+     * 시즌 범위 전체 수집 (진행 상황 전달)
+     */
+    public Map<String, Object> runFullPipeline(
+            int leagueId,
+            int start,
+            int end,
+            boolean offline,
+            boolean restart,
+            ProgressListener listener
+    ) throws Exception {
+
+        if (restart) {
+            int cleared = checkpointDao.clear(leagueId, start, end);
+            System.out.println("[PIPELINE] 체크포인트 삭제: " + cleared);
+        }
+
+        return runSeasons(leagueId, start, end, offline, listener);
+    }
+
+    private Map<String, Object> runSeasons(
+            int leagueId,
+            int start,
+            int end,
+            boolean offline,
+            ProgressListener listener
+    ) throws Exception {
+
+        long startNanos = System.nanoTime();
+        long startRequests = rateLimiter.getRequestCount();
+
+        int teamCount = 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+
+            for (int season = start; season <= end; season++) {
+
+                System.out.println("==========");
+                System.out.println("▶ 시즌 시작: " + season);
+                System.out.println("==========");
+
+                teamCount += runSeason(executor, leagueId, season, offline, listener);
+
+                listener.onSeasonDone(season);
+
+                System.out.println(" 시즌 완료: " + season);
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        long requests = rateLimiter.getRequestCount() - startRequests;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+
+        report.put("seasons", end - start + 1);
+        report.put("teams", teamCount);
+        report.put("requests", requests);
+        report.put("elapsedMs", elapsedMs);
+        report.put("requestsPerSec",
+                elapsedMs == 0 ? 0.0 : requests * 1000.0 / elapsedMs);
+        report.put("rateLimiter", rateLimiter.getStats());
+        report.put("cache", responseCache.getStats());
+
+        System.out.println("[PIPELINE] " + report);
+
+        return report;
+    }
+
+    private int runSeason(
+            ExecutorService executor,
+            int leagueId,
+            int season,
+            boolean offline,
+            ProgressListener listener
+    ) throws Exception {
+
+        // 완료 단위 (팀 작업 스레드에서 동시 조회 / 추가)
+        Set<String> done = ConcurrentHashMap.newKeySet();
+        done.addAll(checkpointDao.findDone(leagueId, season));
+
+        if (done.contains(PipelineCheckpointDao.key(STAGE_SEASON, 0, 0))) {
+            System.out.println("[SKIP] 완료된 시즌: " + season);
+            return 0;
+        }
+
+        /*  팀 수집 (완료 시 DB 의 시즌 팀 목록 사용) */
+        List<Integer> apiTeamIds = new ArrayList<>();
+
+        if (done.contains(PipelineCheckpointDao.key(STAGE_TEAMS, 0, 0))) {
+
+            apiTeamIds.addAll(teamDao.findApiTeamIdsBySeason(season));
+
+        } else {
+
+            listener.onStage(season, STAGE_TEAMS);
+
+            List<Team> teams =
+                    teamApiService.fetchTeams(leagueId, season, offline);
+
+            teamDao.upsertTeams(teams);
+            versionService.bumpSeason(season);
+
+            for (Team team : teams) {
+                apiTeamIds.add(team.getApiTeamId());
+            }
+
+            checkpointDao.markDone(leagueId, STAGE_TEAMS, season, 0, 0);
+        }
+
+        // 신규 팀 반영 후 시즌 팀 매핑 재적재
+        idResolver.evictTeams(season);
+        idResolver.preloadTeams(season);
+
+        /*  리그 순위 (팀 매핑 필요 → 팀 수집 후) */
+        if (!done.contains(PipelineCheckpointDao.key(STAGE_STANDINGS, 0, 0))) {
+
+            listener.onStage(season, STAGE_STANDINGS);
+
+            int saved = leagueStandingService.fetchAndSaveStandings(
+                    leagueId,
+                    season,
+                    offline
+            );
+
+            // 저장된 행이 있을 때만 완료 (0행이면 다음 실행에서 다시 수집)
+            if (saved > 0) {
+                checkpointDao.markDone(leagueId, STAGE_STANDINGS, season, 0, 0);
+            }
+        }
+
+        /*  팀별 선수 기본정보 + 시즌 스탯 (팀 단위 병렬, 페이지당 호출 1회) */
+        List<Future<?>> futures = new ArrayList<>();
+
+        int skipped = 0;
+
+        for (int apiTeamId : apiTeamIds) {
+            if (done.contains(PipelineCheckpointDao.key(STAGE_PLAYERS, apiTeamId, 0))) {
+                skipped++;
+            }
+        }
+
+        listener.onSeasonStart(season, apiTeamIds.size(), skipped);
+        listener.onStage(season, STAGE_PLAYERS);
+
+        for (int apiTeamId : apiTeamIds) {
+
+            if (done.contains(PipelineCheckpointDao.key(STAGE_PLAYERS, apiTeamId, 0))) {
+                continue;
+            }
+
+            // 팀 페이지 단위 체크포인트 (중단된 팀은 남은 페이지만)
+            PagedFetcher.PageCheckpoint pages = new PagedFetcher.PageCheckpoint() {
+                @Override
+                public boolean isDone(int page) {
+                    return done.contains(PipelineCheckpointDao.key(STAGE_PLAYERS, apiTeamId, page));
+                }
+
+                @Override
+                public void markDone(int page) {
+                    checkpointDao.markDone(leagueId, STAGE_PLAYERS, season, apiTeamId, page);
+                    done.add(PipelineCheckpointDao.key(STAGE_PLAYERS, apiTeamId, page));
+                }
+            };
+
+            futures.add(executor.submit(() -> {
+
+                try {
+
+                    int rows = statService.loadTeamPlayersAndStats(
+                            leagueId,
+                            season,
+                            apiTeamId,
+                            pages,
+                            offline
+                    );
+
+                    checkpointDao.markDone(leagueId, STAGE_PLAYERS, season, apiTeamId, 0);
+
+                    listener.onTeamDone(season, apiTeamId, rows);
+
+                } catch (Exception e) {
+                    listener.onTeamFailed(season, apiTeamId, e);
+                    throw e;
+                }
+
+                return null;
+            }));
+        }
+
+        System.out.println(
+            "[PIPELINE] season=" + season +
+            " teams=" + apiTeamIds.size() +
+            " 완료 건너뜀=" + skipped +
+            " 실행=" + futures.size()
+        );
+
+        // 팀 작업 1개라도 실패하면 시즌 중단 (나머지는 완료까지 대기)
+        Exception failure = null;
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                if (failure == null) failure = e;
+            }
+        }
+
+        if (failure != null) {
+            throw new RuntimeException("시즌 수집 실패 (season=" + season + ")", failure);
+        }
+
+        /*  추천 계산용 시즌 스냅샷 + 팀 무관 기준값 갱신 */
+        listener.onStage(season, "snapshot");
+
+        snapshotService.refresh(season);
+        baseValueService.refresh(season);
+
+        if (isFinishedSeason(season)) {
+            checkpointDao.markDone(leagueId, STAGE_SEASON, season, 0, 0);
+        } else {
+            // 진행 중 시즌: 완료 기록을 남기면 이후 실행에서 계속 건너뜀 → 이번 실행 기록 삭제
+            // (실패한 실행의 기록은 남아 있어 재실행 시 이어서 처리)
+            checkpointDao.clear(leagueId, season, season);
+        }
+
+        return futures.size();
+    }
+
+    /*
+     * 종료된 시즌 여부 (ApiResponseCache 불변 판단과 같은 기준)
+     * - EPL 시즌 N 은 N+1 년 6월에 종료 → N+1 년 7월 1일부터 완료 처리
+     */
+    private static boolean isFinishedSeason(int season) {
+        return !LocalDate.now().isBefore(LocalDate.of(season + 1, 7, 1));
+    }
+
+    /**
+     * 시즌 범위 진행 현황 (체크포인트 기준)
+     *
+     * @return { season: { standings, teams, teamCount, playersDone, completed } }
+     */
+    public Map<Integer, Map<String, Object>> getProgress(
+            int leagueId,
+            int start,
+            int end
+    ) {
+
+        Map<Integer, Map<String, Integer>> counts =
+                checkpointDao.countByStage(leagueId, start, end);
+
+        Map<Integer, Map<String, Object>> progress = new LinkedHashMap<>();
+
+        for (int season = start; season <= end; season++) {
+
+            Map<String, Integer> stages = counts.getOrDefault(season, Map.of());
+
+            Map<String, Object> row = new LinkedHashMap<>();
+
+            row.put("standings", stages.getOrDefault(STAGE_STANDINGS, 0) > 0);
+            row.put("teams", stages.getOrDefault(STAGE_TEAMS, 0) > 0);
+            row.put("teamCount", teamDao.findApiTeamIdsBySeason(season).size());
+            row.put("playersDone", stages.getOrDefault(STAGE_PLAYERS, 0));
+            row.put("completed", stages.getOrDefault(STAGE_SEASON, 0) > 0);
+
+            progress.put(season, row);
+        }
+
+        return progress;
+    }
+}
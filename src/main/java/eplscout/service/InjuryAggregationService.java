@@ -21,6 +21,12 @@ import java.sql.ResultSet;
 @Service
 public class InjuryAggregationService {
 
+    private final DataVersionService versionService;
+
+    public InjuryAggregationService(DataVersionService versionService) {
+        this.versionService = versionService;
+    }
+
     /**
      * 최근 3년 기준 집계
      *
@@ -87,6 +93,9 @@ public class InjuryAggregationService {
             throw new RuntimeException(
                     "부상 3년 집계 실패", e);
         }
+
+        // 부상 통계 변경 → 추천 재계산 대상
+        versionService.bumpSeason(currentSeason);
     }
 
     /**
@@ -1,16 +1,17 @@
 package eplscout.service;
 
+import eplscout.dao.IdResolver;
 import eplscout.db.DBUtil;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * InjuryBatchService
@@ -19,60 +20,35 @@ import java.sql.PreparedStatement;
  * 1. API-Football Injuries API 호출
  * 2. player_injury_history 테이블에 저장
  * 3. 시즌 단위 반복 실행 가능
+ *
+ * - API player.id → 내부 player_id 변환 후 저장 (IdResolver)
  */
 @Service
 public class InjuryBatchService {
 
-    /* 기존 RapidAPI 제거 → api-sports.io로 통일 */
-    private static final String API_KEY =
-            "a170bd56a00dfe33e79d77ee714398ac";
+    /* 기존 RapidAPI 제거 → api-sports.io로 통일 (ApiFootballClient) */
+    private final ApiFootballClient apiClient;
+    private final IdResolver idResolver;
 
-    private static final String BASE_URL =
-            "https://v3.football.api-sports.io";
+    public InjuryBatchService(
+            ApiFootballClient apiClient,
+            IdResolver idResolver
+    ) {
+        this.apiClient = apiClient;
+        this.idResolver = idResolver;
+    }
 
     public void collectSeasonInjuries(int leagueId, int season) {
 
         try {
 
-            /*  도메인 통일 */
-            String urlStr =
-                    BASE_URL + "/injuries"
-                            + "?league=" + leagueId
-                            + "&season=" + season;
-
-            URL url = new URL(urlStr);
-            HttpURLConnection conn =
-                    (HttpURLConnection) url.openConnection();
-
-            conn.setRequestMethod("GET");
-
-            /*  헤더 통일 */
-            conn.setRequestProperty("x-apisports-key", API_KEY);
-
-            int responseCode = conn.getResponseCode();
-
-            /*  403 등 실패해도 배치 안죽게 방어 */
-            if (responseCode != 200) {
-                System.out.println("부상 API 호출 실패: HTTP " + responseCode);
-                return;
-            }
-
-            BufferedReader in =
-                    new BufferedReader(
-                            new InputStreamReader(
-                                    conn.getInputStream()));
-
-            StringBuilder response = new StringBuilder();
-            String line;
-
-            while ((line = in.readLine()) != null) {
-                response.append(line);
-            }
-
-            in.close();
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("league", leagueId);
+            params.put("season", season);
 
+            /*  403 등 실패 시 예외 → 아래 catch 에서 배치 계속 진행 */
             JSONObject json =
-                    new JSONObject(response.toString());
+                    apiClient.getJson("/injuries", params);
 
             JSONArray injuries =
                     json.getJSONArray("response");
@@ -101,6 +77,14 @@ public class InjuryBatchService {
             VALUES (?, ?, ?, ?, ?)
         """;
 
+        // 부상 목록의 선수 ID를 한 번에 매핑 (IN 일괄 조회)
+        List<Integer> apiPlayerIds = new ArrayList<>();
+        for (int i = 0; i < injuries.length(); i++) {
+            apiPlayerIds.add(
+                    injuries.getJSONObject(i).getJSONObject("player").getInt("id"));
+        }
+        idResolver.prefetchPlayers(apiPlayerIds);
+
         try (Connection conn = DBUtil.getConnection();
              PreparedStatement ps =
                      conn.prepareStatement(sql)) {
@@ -110,8 +94,11 @@ public class InjuryBatchService {
                 JSONObject obj = injuries.getJSONObject(i);
 
                 long playerId =
-                        obj.getJSONObject("player")
-                           .getLong("id");
+                        idResolver.resolvePlayerId(
+                                obj.getJSONObject("player").getInt("id"));
+
+                // 적재되지 않은 선수는 건너뜀
+                if (playerId == 0L) continue;
 
                 String injuryType =
                         obj.optString("reason", null);
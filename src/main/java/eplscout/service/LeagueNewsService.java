@@ -9,8 +9,11 @@ import java.util.*;
 @Service
 public class LeagueNewsService {
 
-    private final LeagueNewsApiService apiService =
-            new LeagueNewsApiService();
+    private final LeagueNewsApiService apiService;
+
+    public LeagueNewsService(LeagueNewsApiService apiService) {
+        this.apiService = apiService;
+    }
 
     public List<Map<String, Object>> getLeagueNews(int leagueId) {
 
@@ -1,51 +1,55 @@
 package eplscout.service;
 
-import org.json.JSONObject;
+import eplscout.model.StandingRow;
+import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * LeagueStandingApiService
  *
  * 역할
  * - 외부 API-Football Standings API 호출
- * - JSON 원본 그대로 반환
+ * - 응답 스트림을 바로 순위표 행으로 변환
  */
+@Service
 public class LeagueStandingApiService {
 
-    private static final String API_KEY = "a170bd56a00dfe33e79d77ee714398ac";
+    private final ApiFootballClient apiClient;
+    private final ApiSportsStreamReader reader;
 
-    public JSONObject fetchStandings(int leagueId, int season) throws Exception {
-
-        String urlStr =
-                "https://v3.football.api-sports.io/standings"
-              + "?league=" + leagueId
-              + "&season=" + season;
+    public LeagueStandingApiService(
+            ApiFootballClient apiClient,
+            ApiSportsStreamReader reader
+    ) {
+        this.apiClient = apiClient;
+        this.reader = reader;
+    }
 
-        URL url = new URL(urlStr);
-        HttpURLConnection conn =
-                (HttpURLConnection) url.openConnection();
+    public List<StandingRow> fetchStandings(int leagueId, int season) throws Exception {
+        return fetchStandings(leagueId, season, false);
+    }
 
-        conn.setRequestMethod("GET");
-        conn.setRequestProperty("x-apisports-key", API_KEY);
+    /**
+     * offline = 캐시만 사용
+     */
+    public List<StandingRow> fetchStandings(int leagueId, int season, boolean offline)
+            throws Exception {
 
-        BufferedReader br =
-                new BufferedReader(
-                        new InputStreamReader(conn.getInputStream())
-                );
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("league", leagueId);
+        params.put("season", season);
 
-        StringBuilder sb = new StringBuilder();
-        String line;
+        List<StandingRow> rows = new ArrayList<>();
 
-        while ((line = br.readLine()) != null) {
-            sb.append(line);
+        try (InputStream in = apiClient.get("/standings", params, offline)) {
+            reader.readStandings(in, rows::add);
         }
 
-        br.close();
-
-        return new JSONObject(sb.toString());
+        return rows;
     }
 }
@@ -1,11 +1,13 @@
 package eplscout.service;
 
+import eplscout.dao.IdResolver;
 import eplscout.dao.LeagueStandingDao;
-import eplscout.dao.TeamDao;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import eplscout.model.StandingRow;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * LeagueStandingService
  *
@@ -19,83 +21,65 @@ import org.springframework.stereotype.Service;
 public class LeagueStandingService {
 
     private final LeagueStandingDao leagueStandingDao;
-    private final TeamDao teamDao;
+    private final IdResolver idResolver;
 
-    private final LeagueStandingApiService apiService =
-            new LeagueStandingApiService();
+    private final LeagueStandingApiService apiService;
 
     public LeagueStandingService(
             LeagueStandingDao leagueStandingDao,
-            TeamDao teamDao
+            IdResolver idResolver,
+            LeagueStandingApiService apiService
     ) {
+        this.apiService = apiService;
         this.leagueStandingDao = leagueStandingDao;
-        this.teamDao = teamDao;
+        this.idResolver = idResolver;
     }
 
     /* ==================================================
        리그 순위 API → DB 적재
        ================================================== */
-    public void fetchAndSaveStandings(
+    public int fetchAndSaveStandings(
             int leagueId,
             int season
     ) throws Exception {
 
-        JSONObject json = apiService.fetchStandings(leagueId, season);
+        return fetchAndSaveStandings(leagueId, season, false);
+    }
 
-        JSONArray standings =
-                json.getJSONArray("response")
-                        .getJSONObject(0)
-                        .getJSONObject("league")
-                        .getJSONArray("standings")
-                        .getJSONArray(0);
+    /**
+     * offline = 캐시만 사용 (수집 파이프라인 오프라인 재생)
+     *
+     * @return 저장 행 수 (시즌 팀이 아직 없으면 0)
+     */
+    public int fetchAndSaveStandings(
+            int leagueId,
+            int season,
+            boolean offline
+    ) throws Exception {
 
-        for (int i = 0; i < standings.length(); i++) {
+        List<StandingRow> standings =
+                apiService.fetchStandings(leagueId, season, offline);
 
-            JSONObject row = standings.getJSONObject(i);
+        // 시즌 팀 매핑 한 번에 적재
+        idResolver.preloadTeams(season);
 
-            int rank = row.getInt("rank");
+        List<StandingRow> rows = new ArrayList<>();
 
-            JSONObject team = row.getJSONObject("team");
-            int apiTeamId = team.getInt("id");
-            String teamLogo = team.getString("logo"); //  로고 추출
+        for (StandingRow row : standings) {
 
             long teamId =
-                    teamDao.findTeamIdByApiTeamIdAndSeason(apiTeamId, season);
+                    idResolver.resolveTeamId(row.getApiTeamId(), season);
 
             if (teamId == 0L) continue;
 
-            JSONObject all = row.getJSONObject("all");
-
-            int played = all.getInt("played");
-            int win = all.getInt("win");
-            int draw = all.getInt("draw");
-            int lose = all.getInt("lose");
-
-            int points = row.getInt("points");
-
-            JSONObject goals = all.getJSONObject("goals");
-
-            int goalsFor = goals.getInt("for");
-            int goalsAgainst = goals.getInt("against");
-
-            int goalDiff = goalsFor - goalsAgainst;
-
-            leagueStandingDao.upsert(
-                    leagueId,
-                    season,
-                    teamId,
-                    rank,
-                    played,
-                    win,
-                    draw,
-                    lose,
-                    points,
-                    goalsFor,
-                    goalsAgainst,
-                    goalDiff,
-                    teamLogo   //  로고 전달
-            );
+            row.setTeamId(teamId);
+            rows.add(row);
         }
+
+        // 순위표 1개 = 트랜잭션 1개
+        leagueStandingDao.upsertAll(leagueId, season, rows);
+
+        return rows.size();
     }
 
     /* ==================================================
@@ -0,0 +1,224 @@
+package eplscout.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * PagedFetcher
+ *
+ * 역할:
+ * - api-sports 페이지 조회 공통 처리 (/players, /fixtures/players 등)
+ * - 1페이지로 paging.total 확인 → 나머지 페이지는 동시에 미리 조회
+ * - 조회(생산) / 파싱 결과 DB 적재(소비)를 겹쳐 실행
+ *
+ * 설계 포인트:
+ * - 생산: 공유 스레드 풀에서 페이지별 조회 + 파싱 → 제한 큐에 넣음
+ * - 소비: 호출 스레드가 큐에서 꺼내 handler 실행 (DB 적재는 호출 스레드 1개)
+ * - 큐 크기 제한 → DB 가 느리면 조회도 대기 (메모리 상한)
+ * - 실제 요청 속도 / 동시 요청 수는 ApiRateLimiter 가 조절
+ * - 페이지 처리 순서는 보장하지 않음 (페이지 간 의존 없음)
+ * - 1개라도 실패하면 남은 조회 취소 후 예외 전달
+ * - PageCheckpoint 전달 시 완료 페이지는 조회 / 처리 생략
+ *   (1페이지는 paging.total 확인용으로 항상 조회, 처리만 생략)
+ */
+@Component
+public class PagedFetcher {
+
+    /**
+     * 페이지 1개 조회 + 파싱
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        Page<T> load(int page) throws Exception;
+    }
+
+    /**
+     * 파싱된 페이지 1개 처리 (DB 적재 등)
+     */
+    @FunctionalInterface
+    public interface PageHandler<T> {
+        void handle(Page<T> page) throws Exception;
+    }
+
+    /**
+     * 페이지 완료 기록 (재실행 시 이어서 처리)
+     * - markDone 은 handler 성공 후 호출 스레드에서 호출
+     */
+    public interface PageCheckpoint {
+        boolean isDone(int page);
+        void markDone(int page);
+    }
+
+    // 체크포인트 없음 (항상 전체 페이지 처리)
+    public static final PageCheckpoint NO_CHECKPOINT = new PageCheckpoint() {
+        @Override public boolean isDone(int page) { return false; }
+        @Override public void markDone(int page) {}
+    };
+
+    /**
+     * 조회된 페이지 1개
+     */
+    public static final class Page<T> {
+
+        private final int page;
+        private final int totalPages;
+        private final T items;
+
+        public Page(int page, int totalPages, T items) {
+            this.page = page;
+            this.totalPages = Math.max(1, totalPages);
+            this.items = items;
+        }
+
+        public int getPage() { return page; }
+        public int getTotalPages() { return totalPages; }
+        public T getItems() { return items; }
+    }
+
+    // 생산 실패 전달용 (큐 원소)
+    private static final class Failure {
+        final Throwable error;
+        Failure(Throwable error) { this.error = error; }
+    }
+
+    private final ExecutorService executor;
+    private final int queueSize;
+
+    public PagedFetcher(
+            @Value("${api-football.prefetch.threads:8}") int threads,
+            @Value("${api-football.prefetch.queue-size:4}") int queueSize
+    ) {
+        this.queueSize = Math.max(1, queueSize);
+
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "api-prefetch");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 전체 페이지 조회 + 처리
+     *
+     * @return 전체 페이지 수
+     */
+    public <T> int fetchAll(PageLoader<T> loader, PageHandler<T> handler)
+            throws Exception {
+
+        return fetchAll(loader, handler, NO_CHECKPOINT);
+    }
+
+    /**
+     * 미완료 페이지만 조회 + 처리
+     *
+     * @return 전체 페이지 수
+     */
+    public <T> int fetchAll(
+            PageLoader<T> loader,
+            PageHandler<T> handler,
+            PageCheckpoint checkpoint
+    ) throws Exception {
+
+        Page<T> first = loader.load(1);
+        int totalPages = first.getTotalPages();
+
+        List<Integer> pending = new ArrayList<>();
+        for (int page = 2; page <= totalPages; page++) {
+            if (!checkpoint.isDone(page)) pending.add(page);
+        }
+
+        if (pending.isEmpty()) {
+            handleFirst(first, handler, checkpoint);
+            return totalPages;
+        }
+
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(queueSize);
+        List<Future<?>> futures = new ArrayList<>(pending.size());
+
+        for (int target : pending) {
+
+            futures.add(executor.submit(() -> {
+                Object result;
+                try {
+                    result = loader.load(target);
+                } catch (Throwable e) {
+                    // Error(OOM / 파서 클래스 로딩 실패 등)도 전달 → 소비자가 take() 에서 멈추지 않음
+                    result = new Failure(e);
+                }
+                queue.put(result);
+                return null;
+            }));
+        }
+
+        try {
+
+            // 1페이지 처리 동안 나머지 페이지 조회 진행
+            handleFirst(first, handler, checkpoint);
+
+            for (int received = 0; received < pending.size(); received++) {
+
+                Object result = queue.take();
+
+                if (result instanceof Failure failure) {
+                    throw rethrow(failure.error);
+                }
+
+                @SuppressWarnings("unchecked")
+                Page<T> page = (Page<T>) result;
+
+                handler.handle(page);
+                checkpoint.markDone(page.getPage());
+            }
+
+        } catch (Throwable e) {
+            // 대기 중 조회 취소 (큐에서 막힌 생산자도 interrupt 로 해제)
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            throw e;
+        }
+
+        // 생산 작업 정상 종료 확인 (모든 결과 수신 완료 상태)
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new RuntimeException("페이지 조회 실패", e.getCause());
+            }
+        }
+
+        return totalPages;
+    }
+
+    /*
+     * 생산자 실패 그대로 전파 (Exception / Error 는 원래 타입 유지)
+     */
+    private static Exception rethrow(Throwable error) {
+
+        if (error instanceof Exception e) return e;
+        if (error instanceof Error e) throw e;
+
+        return new RuntimeException("페이지 조회 실패", error);
+    }
+
+    private <T> void handleFirst(
+            Page<T> first,
+            PageHandler<T> handler,
+            PageCheckpoint checkpoint
+    ) throws Exception {
+
+        if (checkpoint.isDone(1)) return;
+
+        handler.handle(first);
+        checkpoint.markDone(1);
+    }
+}
@@ -0,0 +1,317 @@
+package eplscout.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PipelineJob
+ *
+ * 역할:
+ * - 비동기 수집 작업 1건의 상태 (PipelineJobService 가 생성 / 보관)
+ *   PIPELINE    : 전체 시즌 파이프라인 (start ~ end)
+ *   MATCH_STATS : 시즌 경기별 선수 기록 수집 (start = end = 시즌)
+ * - IngestionPipelineService 진행 콜백을 받아 실시간 상태 갱신
+ * - 조회 시 단계 / 시즌별 진행 / 처리량 / 오류 / 예상 남은 시간 계산
+ *
+ * 동시성:
+ * - 팀 콜백은 팀 작업 스레드에서 동시에 호출 → 카운터는 Atomic, 나머지는 this 동기화
+ */
+public class PipelineJob implements IngestionPipelineService.ProgressListener {
+
+    public enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED }
+
+    public enum Type { PIPELINE, MATCH_STATS }
+
+    // 상태 응답에 포함할 최대 오류 수
+    private static final int MAX_ERRORS = 50;
+
+    private final String jobId;
+    private final Type type;
+    private final int leagueId;
+    private final int start;
+    private final int end;
+    private final boolean offline;
+    private final boolean restart;
+    private final boolean incremental;
+
+    private final Instant submittedAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile long startNanos;
+    private volatile long startRequests;
+
+    private volatile int currentSeason;
+    private volatile String stage = "queued";
+
+    // 현재 시즌 팀 진행
+    private volatile int seasonTeams;
+    private final AtomicInteger seasonTeamsDone = new AtomicInteger();
+
+    private final AtomicInteger completedSeasons = new AtomicInteger();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+
+    // 시즌별 진행 { season: { teams, done, failed, completed } }
+    private final Map<Integer, Map<String, Object>> seasons = new LinkedHashMap<>();
+    private final List<String> errors = new ArrayList<>();
+
+    private volatile Map<String, Object> report;
+
+    public PipelineJob(
+            String jobId,
+            Type type,
+            int leagueId,
+            int start,
+            int end,
+            boolean offline,
+            boolean restart,
+            boolean incremental
+    ) {
+        this.jobId = jobId;
+        this.type = type;
+        this.leagueId = leagueId;
+        this.start = start;
+        this.end = end;
+        this.offline = offline;
+        this.restart = restart;
+        this.incremental = incremental;
+    }
+
+    public String getJobId() { return jobId; }
+    public Type getType() { return type; }
+    public int getLeagueId() { return leagueId; }
+    public int getStart() { return start; }
+    public int getEnd() { return end; }
+    public boolean isOffline() { return offline; }
+    public boolean isRestart() { return restart; }
+    public boolean isIncremental() { return incremental; }
+    public Status getStatus() { return status; }
+
+    public boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED;
+    }
+
+    /* ==================================================
+       작업 수명 (PipelineJobService 호출)
+       ================================================== */
+
+    void markStarted(long requestCount) {
+        startedAt = Instant.now();
+        startNanos = System.nanoTime();
+        startRequests = requestCount;
+        status = Status.RUNNING;
+    }
+
+    void markSucceeded(Map<String, Object> report, long requestCount) {
+        this.report = report;
+        requests.set(requestCount - startRequests);
+        finishedAt = Instant.now();
+        stage = "done";
+        status = Status.SUCCEEDED;
+    }
+
+    void markFailed(Exception error, long requestCount) {
+        addError("작업 실패: " + rootMessage(error));
+        requests.set(requestCount - startRequests);
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    /* ==================================================
+       진행 콜백 (IngestionPipelineService)
+       ================================================== */
+
+    @Override
+    public synchronized void onSeasonStart(int season, int teamCount, int skippedTeams) {
+
+        currentSeason = season;
+        seasonTeams = teamCount;
+        seasonTeamsDone.set(skippedTeams);
+
+        Map<String, Object> row = seasonRow(season);
+        row.put("teams", teamCount);
+        row.put("done", skippedTeams);
+        row.put("skipped", skippedTeams);
+    }
+
+    @Override
+    public void onStage(int season, String stage) {
+        this.currentSeason = season;
+        this.stage = stage;
+    }
+
+    @Override
+    public void onTeamDone(int season, int apiTeamId, int rows) {
+
+        this.rows.addAndGet(rows);
+        int done = seasonTeamsDone.incrementAndGet();
+
+        synchronized (this) {
+            seasonRow(season).put("done", done);
+        }
+    }
+
+    @Override
+    public synchronized void onTeamFailed(int season, int apiTeamId, Exception error) {
+
+        Map<String, Object> row = seasonRow(season);
+        row.put("failed", (int) row.getOrDefault("failed", 0) + 1);
+
+        addError("season=" + season + " apiTeamId=" + apiTeamId + ": " + rootMessage(error));
+    }
+
+    @Override
+    public synchronized void onSeasonDone(int season) {
+
+        completedSeasons.incrementAndGet();
+        seasonRow(season).put("completed", true);
+    }
+
+    /* ==================================================
+       상태 조회
+       ================================================== */
+
+    /**
+     * 현재 상태 스냅샷
+     *
+     * @param requestCount ApiRateLimiter 누적 요청 수 (실행 중 처리량 계산용)
+     */
+    public synchronized Map<String, Object> toStatus(long requestCount) {
+
+        Map<String, Object> view = new LinkedHashMap<>();
+
+        view.put("jobId", jobId);
+        view.put("type", type.name());
+        view.put("status", status.name());
+        view.put("leagueId", leagueId);
+        view.put("start", start);
+        view.put("end", end);
+        view.put("offline", offline);
+        view.put("restart", restart);
+        if (type == Type.MATCH_STATS) {
+            view.put("incremental", incremental);
+        }
+        view.put("submittedAt", submittedAt.toString());
+        view.put("startedAt", startedAt == null ? null : startedAt.toString());
+        view.put("finishedAt", finishedAt == null ? null : finishedAt.toString());
+
+        view.put("season", currentSeason == 0 ? null : currentSeason);
+        view.put("stage", stage);
+
+        long elapsedMs = elapsedMs();
+        long requestDelta = status == Status.RUNNING
+                ? requestCount - startRequests
+                : requests.get();
+
+        view.put("elapsedMs", elapsedMs);
+        view.put("rows", rows.get());
+        view.put("requests", requestDelta);
+        view.put("rowsPerSec", perSec(rows.get(), elapsedMs));
+        view.put("requestsPerSec", perSec(requestDelta, elapsedMs));
+
+        double fraction = progressFraction();
+        view.put("progress", Math.round(fraction * 1000) / 10.0);
+        view.put("etaMs", etaMs(fraction, elapsedMs));
+
+        view.put("seasons", copySeasons());
+        view.put("errors", new ArrayList<>(errors));
+
+        if (report != null) {
+            view.put("report", report);
+        }
+
+        return view;
+    }
+
+    /*
+     * 진행률 = (완료 시즌 + 현재 시즌 팀 완료 비율) / 전체 시즌
+     */
+    private double progressFraction() {
+
+        if (status == Status.SUCCEEDED) return 1.0;
+
+        int total = end - start + 1;
+        if (total <= 0) return 0.0;
+
+        double current = 0.0;
+
+        // 조회 전용 (seasonRow 는 행을 만들기 때문에 사용하지 않음)
+        Map<String, Object> row = seasons.get(currentSeason);
+
+        if (status == Status.RUNNING && seasonTeams > 0
+                && row != null
+                && !Boolean.TRUE.equals(row.get("completed"))) {
+            current = Math.min(1.0, seasonTeamsDone.get() / (double) seasonTeams);
+        }
+
+        return Math.min(1.0, (completedSeasons.get() + current) / total);
+    }
+
+    private Long etaMs(double fraction, long elapsedMs) {
+
+        if (status != Status.RUNNING || fraction <= 0.0) return null;
+
+        return (long) (elapsedMs / fraction - elapsedMs);
+    }
+
+    private long elapsedMs() {
+
+        if (startedAt == null) return 0L;
+
+        if (finishedAt != null) {
+            return finishedAt.toEpochMilli() - startedAt.toEpochMilli();
+        }
+
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static double perSec(long count, long elapsedMs) {
+        return elapsedMs == 0 ? 0.0 : Math.round(count * 10_000.0 / elapsedMs) / 10.0;
+    }
+
+    private Map<String, Object> seasonRow(int season) {
+        return seasons.computeIfAbsent(season, s -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("teams", 0);
+            row.put("done", 0);
+            row.put("skipped", 0);
+            row.put("failed", 0);
+            row.put("completed", false);
+            return row;
+        });
+    }
+
+    private Map<Integer, Map<String, Object>> copySeasons() {
+
+        Map<Integer, Map<String, Object>> copy = new LinkedHashMap<>();
+
+        for (Map.Entry<Integer, Map<String, Object>> entry : seasons.entrySet()) {
+            copy.put(entry.getKey(), new LinkedHashMap<>(entry.getValue()));
+        }
+
+        return copy;
+    }
+
+    private synchronized void addError(String message) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(message);
+        }
+    }
+
+    private static String rootMessage(Throwable error) {
+
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+
+        return root.getClass().getSimpleName() + ": " + root.getMessage();
+    }
+}
@@ -0,0 +1,265 @@
+package eplscout.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PipelineJobService
+ *
+ * 역할:
+ * - 전체 수집 파이프라인 / 시즌 경기 기록 수집을 비동기 작업으로 실행
+ *   (요청 스레드는 즉시 반환)
+ * - 작업 ID 발급 + 작업 목록 보관 (메모리, 최근 history 개)
+ * - 작업 상태 조회 (단계 / 시즌별 진행 / 처리량 / 오류 / 예상 남은 시간)
+ *
+ * 설계 포인트:
+ * - 전용 스레드 풀 (동시 실행 max-concurrent, 대기 queue-size)
+ *   → 배치 부하가 웹 요청 스레드(Tomcat)를 점유하지 않음
+ * - 대기열이 가득 차면 제출 거부 (HTTP 503 + Retry-After)
+ * - offline 은 작업(호출) 단위 → 온라인 / 오프라인 작업 동시 실행 가능
+ */
+@Service
+public class PipelineJobService {
+
+    private final IngestionPipelineService pipelineService;
+    private final FixtureMatchStatService fixtureMatchStatService;
+    private final ApiRateLimiter rateLimiter;
+
+    private final ThreadPoolExecutor executor;
+    private final int history;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 대기열 초과 시 재시도 안내 (초)
+    private static final long RETRY_AFTER_SECONDS = 60;
+
+    // 제출 순서 유지 (this 로 동기화)
+    private final Map<String, PipelineJob> jobs = new LinkedHashMap<>();
+
+    public PipelineJobService(
+            IngestionPipelineService pipelineService,
+            FixtureMatchStatService fixtureMatchStatService,
+            ApiRateLimiter rateLimiter,
+            @Value("${ingestion.jobs.max-concurrent:1}") int maxConcurrent,
+            @Value("${ingestion.jobs.queue-size:4}") int queueSize,
+            @Value("${ingestion.jobs.history:50}") int history
+    ) {
+        this.pipelineService = pipelineService;
+        this.fixtureMatchStatService = fixtureMatchStatService;
+        this.rateLimiter = rateLimiter;
+        this.history = Math.max(1, history);
+
+        int threads = Math.max(1, maxConcurrent);
+
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                r -> {
+                    Thread t = new Thread(r, "pipeline-job");
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+    }
+
+    /**
+     * 파이프라인 작업 제출
+     *
+     * @return 제출 직후 작업 상태 (jobId 포함)
+     */
+    public Map<String, Object> submit(
+            int leagueId,
+            int start,
+            int end,
+            boolean offline,
+            boolean restart
+    ) {
+
+        if (start > end) {
+            throw new RuntimeException("시즌 범위 오류: start=" + start + ", end=" + end);
+        }
+
+        PipelineJob job = new PipelineJob(
+                "job-" + sequence.incrementAndGet(),
+                PipelineJob.Type.PIPELINE,
+                leagueId,
+                start,
+                end,
+                offline,
+                restart,
+                false
+        );
+
+        return enqueue(job);
+    }
+
+    /**
+     * 시즌 경기별 선수 기록 수집 작업 제출
+     *
+     * @param incremental true 면 새 경기만 수집 + 영향 선수만 재집계
+     * @return 제출 직후 작업 상태 (jobId 포함)
+     */
+    public Map<String, Object> submitMatchStats(
+            int leagueId,
+            int season,
+            boolean incremental
+    ) {
+
+        PipelineJob job = new PipelineJob(
+                "job-" + sequence.incrementAndGet(),
+                PipelineJob.Type.MATCH_STATS,
+                leagueId,
+                season,
+                season,
+                false,
+                false,
+                incremental
+        );
+
+        return enqueue(job);
+    }
+
+    private Map<String, Object> enqueue(PipelineJob job) {
+
+        synchronized (this) {
+            jobs.put(job.getJobId(), job);
+            evictFinished();
+        }
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                jobs.remove(job.getJobId());
+            }
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "수집 작업 대기열 초과 (" + RETRY_AFTER_SECONDS + "초 후 다시 제출)",
+                    e
+            ) {
+                @Override
+                public HttpHeaders getHeaders() {
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+                    return headers;
+                }
+            };
+        }
+
+        System.out.println("[JOB] 제출: " + job.getJobId() + " " + job.getType()
+                + " league=" + job.getLeagueId() + " " + job.getStart() + "~" + job.getEnd());
+
+        return job.toStatus(rateLimiter.getRequestCount());
+    }
+
+    private void run(PipelineJob job) {
+
+        job.markStarted(rateLimiter.getRequestCount());
+
+        System.out.println("[JOB] 시작: " + job.getJobId());
+
+        try {
+
+            Map<String, Object> report = switch (job.getType()) {
+
+                case PIPELINE -> pipelineService.runFullPipeline(
+                        job.getLeagueId(),
+                        job.getStart(),
+                        job.getEnd(),
+                        job.isOffline(),
+                        job.isRestart(),
+                        job
+                );
+
+                case MATCH_STATS -> {
+                    job.onStage(job.getStart(), "match-stats");
+                    yield fixtureMatchStatService.loadSeasonMatchStats(
+                            job.getLeagueId(),
+                            job.getStart(),
+                            job.isIncremental()
+                    );
+                }
+            };
+
+            job.markSucceeded(report, rateLimiter.getRequestCount());
+
+            System.out.println("[JOB] 완료: " + job.getJobId());
+
+        } catch (Exception e) {
+
+            job.markFailed(e, rateLimiter.getRequestCount());
+
+            System.out.println("[JOB] 실패: " + job.getJobId() + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Map<String, Object> getStatus(String jobId) {
+
+        PipelineJob job;
+
+        synchronized (this) {
+            job = jobs.get(jobId);
+        }
+
+        if (job == null) {
+            throw new RuntimeException("수집 작업 없음: " + jobId);
+        }
+
+        return job.toStatus(rateLimiter.getRequestCount());
+    }
+
+    /**
+     * 보관 중인 작업 전체 (제출 순)
+     */
+    public List<Map<String, Object>> listJobs() {
+
+        List<PipelineJob> snapshot;
+
+        synchronized (this) {
+            snapshot = new ArrayList<>(jobs.values());
+        }
+
+        long requestCount = rateLimiter.getRequestCount();
+
+        List<Map<String, Object>> list = new ArrayList<>(snapshot.size());
+        for (PipelineJob job : snapshot) {
+            list.add(job.toStatus(requestCount));
+        }
+
+        return list;
+    }
+
+    /*
+     * 보관 수 초과 시 오래된 종료 작업부터 제거 (실행 / 대기 작업은 유지)
+     */
+    private void evictFinished() {
+
+        Iterator<PipelineJob> it = jobs.values().iterator();
+
+        while (jobs.size() > history && it.hasNext()) {
+            if (it.next().isFinished()) {
+                it.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package eplscout.service;
+
+import eplscout.dao.PlayerInjuryStatDao;
+import eplscout.dao.PlayerSeasonStatDao;
+import eplscout.model.PlayerInjuryStat;
+import eplscout.scoring.PlayerBaseValues;
+import eplscout.scoring.PlayerValueCalculator;
+import eplscout.scoring.SeasonStatSnapshot;
+import eplscout.scoring.TeamScoutProfile;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PlayerBaseValueService
+ *
+ * 역할:
+ * - 시즌별 PlayerBaseValues (팀 무관 선수 가치 구성요소) 메모리 보관
+ * - 시즌 스냅샷 + 시즌 부상 통계로 1회 계산
+ * - 시즌 입력 버전(DataVersionService)이 바뀌면 다음 조회 때 재계산
+ * - 수집 배치(BatchController)가 스냅샷 갱신 직후 refresh 호출
+ * - 시즌 기준값이 아직 없으면 단일 팀 요청은 약점 포지션 후보만 적재
+ */
+@Service
+public class PlayerBaseValueService {
+
+    private final SeasonStatSnapshotService snapshotService;
+    private final PlayerInjuryStatDao injuryStatDao;
+    private final PlayerSeasonStatDao seasonStatDao;
+    private final DataVersionService versionService;
+
+    private final PlayerValueCalculator playerValueCalculator =
+            new PlayerValueCalculator();
+
+    private final Map<Integer, PlayerBaseValues> baseValues =
+            new ConcurrentHashMap<>();
+
+    // 시즌 → 계산 시점의 시즌 입력 버전
+    private final Map<Integer, Long> computedVersions =
+            new ConcurrentHashMap<>();
+
+    public PlayerBaseValueService(
+            SeasonStatSnapshotService snapshotService,
+            PlayerInjuryStatDao injuryStatDao,
+            PlayerSeasonStatDao seasonStatDao,
+            DataVersionService versionService
+    ) {
+        this.snapshotService = snapshotService;
+        this.injuryStatDao = injuryStatDao;
+        this.seasonStatDao = seasonStatDao;
+        this.versionService = versionService;
+    }
+
+    /**
+     * 시즌 기준값 조회 (없거나 입력이 바뀌었으면 계산)
+     */
+    public PlayerBaseValues getBaseValues(int season) {
+
+        if (isCurrent(season)) {
+            return baseValues.get(season);
+        }
+
+        return recomputeIfStale(season);
+    }
+
+    /*
+     * 잠금 안에서 다시 확인 (double-checked)
+     * - 동시에 오래된 기준값을 본 호출들이 차례로 재계산하지 않도록
+     */
+    private synchronized PlayerBaseValues recomputeIfStale(int season) {
+
+        if (isCurrent(season)) {
+            return baseValues.get(season);
+        }
+
+        return refresh(season);
+    }
+
+    /**
+     * 단일 팀 추천용 기준값
+     *
+     * - 시즌 기준값이 최신이면 그대로 사용
+     * - 아니면 약점 포지션 / 타 팀 후보만 SQL 로 걸러 적재 (캐시 안 함)
+     */
+    public PlayerBaseValues getCandidateValues(int season, TeamScoutProfile team) {
+
+        if (isCurrent(season)) {
+            return baseValues.get(season);
+        }
+
+        SeasonStatSnapshot candidates = seasonStatDao.loadCandidateSnapshot(
+                season, team.getTeamId(), team.weakPositionCodes());
+
+        Map<Long, PlayerInjuryStat> injuryStats =
+                injuryStatDao.findAllBySeason(season);
+
+        return playerValueCalculator.precompute(
+                candidates, injuryStats, LocalDate.now());
+    }
+
+    private boolean isCurrent(int season) {
+
+        Long computed = computedVersions.get(season);
+
+        return baseValues.containsKey(season)
+                && computed != null
+                && computed == versionService.currentVersion(season);
+    }
+
+    /**
+     * 시즌 기준값 재계산 (수집 배치 완료 후 호출, 버전과 무관하게 항상 계산)
+     */
+    public synchronized PlayerBaseValues refresh(int season) {
+
+        // 계산 전에 버전을 읽어둠 (계산 중 변경되면 다음 조회 때 재계산)
+        long version = versionService.currentVersion(season);
+
+        SeasonStatSnapshot snapshot = snapshotService.getSnapshot(season);
+
+        Map<Long, PlayerInjuryStat> injuryStats =
+                injuryStatDao.findAllBySeason(season);
+
+        PlayerBaseValues values = playerValueCalculator.precompute(
+                snapshot, injuryStats, LocalDate.now());
+
+        baseValues.put(season, values);
+        computedVersions.put(season, version);
+
+        System.out.println(
+                "[BASE VALUE] season=" + season + " rows=" + values.size());
+
+        return values;
+    }
+}
@@ -1,17 +1,15 @@
 package eplscout.service;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.LocalDate;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-
-import eplscout.dao.PlayerDao;
+import eplscout.dao.IdResolver;
 import eplscout.dao.PlayerMatchStatDao;
-import eplscout.dao.TeamDao;
+import eplscout.model.MatchStatLine;
+import org.springframework.stereotype.Service;
 
 /**
  * PlayerMatchStatApiService
@@ -22,24 +20,37 @@ import eplscout.dao.TeamDao;
  * 핵심 설계
  * - 외부 API ID → 내부 PK 변환 후 저장
  * - 출전 기록이 없어도 (0분, NULL 평점) 원천 데이터로 보존
+ * - ID 변환은 IdResolver 메모리 캐시 사용 (선수별 SQL 조회 제거)
+ * - 응답은 스트림 파싱, 페이지 단위 일괄 UPSERT
+ * - 2페이지 이후는 PagedFetcher 로 미리 조회 (조회 / 적재 겹쳐 실행)
  */
+@Service
 public class PlayerMatchStatApiService {
 
-    private static final String API_KEY = "a170bd56a00dfe33e79d77ee714398ac";
-
-    private static final String API_URL =
-            "https://v3.football.api-sports.io/fixtures/players";
-
     private final PlayerMatchStatDao playerMatchStatDao = new PlayerMatchStatDao();
-    private final PlayerDao playerDao = new PlayerDao();
-    private final TeamDao teamDao = new TeamDao();
+    private final ApiFootballClient apiClient;
+    private final ApiSportsStreamReader reader;
+    private final PagedFetcher pagedFetcher;
+    private final IdResolver idResolver;
+
+    public PlayerMatchStatApiService(
+            ApiFootballClient apiClient,
+            ApiSportsStreamReader reader,
+            PagedFetcher pagedFetcher,
+            IdResolver idResolver
+    ) {
+        this.apiClient = apiClient;
+        this.reader = reader;
+        this.pagedFetcher = pagedFetcher;
+        this.idResolver = idResolver;
+    }
 
     public void loadTeamPlayerMatchStats(int apiTeamId, int season)
             throws Exception {
 
         // 외부 team.id → 내부 team_id
         long teamId =
-                teamDao.findTeamIdByApiTeamIdAndSeason(apiTeamId, season);
+                idResolver.resolveTeamId(apiTeamId, season);
 
         if (teamId == 0L) {
             System.out.println(
@@ -48,123 +59,72 @@ public class PlayerMatchStatApiService {
             return;
         }
 
-        int page = 1;
-        int totalPages = 1;
-
-        while (page <= totalPages) {
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(API_URL
-                            + "?league=39"
-                            + "&season=" + season
-                            + "&team=" + apiTeamId
-                            + "&page=" + page))
-                    .header("x-apisports-key", API_KEY)
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response =
-                    HttpClient.newHttpClient()
-                            .send(request, HttpResponse.BodyHandlers.ofString());
-
-            JSONObject json = new JSONObject(response.body());
-
-            if (!json.has("response")) {
-                System.out.println("[WARN] fixtures/players 응답 없음");
-                return;
-            }
-
-            JSONObject paging = json.getJSONObject("paging");
-            totalPages = paging.getInt("total");
-
-            JSONArray fixtures = json.getJSONArray("response");
-            System.out.println(
-                "[DEBUG] apiTeamId=" + apiTeamId +
-                " fixturesCount=" + fixtures.length()
-                );
-
-            for (int i = 0; i < fixtures.length(); i++) {
+        pagedFetcher.fetchAll(
+                page -> {
+                    Map<String, Object> params = new LinkedHashMap<>();
+                    params.put("league", 39);
+                    params.put("season", season);
+                    params.put("team", apiTeamId);
+                    params.put("page", page);
 
-                JSONObject fixture = fixtures.getJSONObject(i);
+                    // 응답 스트림 → 경기×선수 행 (출전 기록 없으면 0분 / NULL 평점)
+                    List<MatchStatLine> lines = new ArrayList<>();
+                    int totalPages;
 
-                long matchId =
-                        fixture.getJSONObject("fixture").getLong("id");
-
-                String dateStr =
-                        fixture.getJSONObject("fixture").getString("date");
-                LocalDate matchDate =
-                        LocalDate.parse(dateStr.substring(0, 10));
-
-                JSONArray players =
-                        fixture.getJSONArray("players");
-                        System.out.println(
-                        "[DEBUG] matchId=" + matchId +
-                        " playersCount=" + players.length()
-                        );
-
-                for (int j = 0; j < players.length(); j++) {
-
-                    JSONObject playerObj = players.getJSONObject(j);
-
-                    int apiPlayerId =
-                            playerObj.getJSONObject("player").getInt("id");
-
-                    long playerId =
-                            playerDao.findPlayerIdByApiPlayerId(apiPlayerId);
-
-                    // player 없으면 먼저 생성
-                    if (playerId == 0L) {
-                        String name =
-                                playerObj.getJSONObject("player").getString("name");
-                        String photo =
-                                playerObj.getJSONObject("player").optString("photo", null);
-
-                        // playerDao.upsertSinglePlayer(apiPlayerId, name, photo); 임시주석
-                        playerId =
-                                playerDao.findPlayerIdByApiPlayerId(apiPlayerId);
+                    try (InputStream in = apiClient.get("/fixtures/players", params)) {
+                        totalPages = reader.readFixturePlayers(in, lines::add);
                     }
 
-                    if (playerId == 0L) continue;
-                    
+                    return new PagedFetcher.Page<>(page, totalPages, lines);
+                },
+                page -> savePage(apiTeamId, season, teamId, page)
+        );
+    }
 
-                    // ===== 여기부터가 핵심 수정 =====
-                    JSONArray stats =
-                            playerObj.getJSONArray("statistics");
-                            System.out.println(
-                                "[DEBUG] apiPlayerId=" + apiPlayerId +
-                                " statsCount=" + stats.length()
-                                );
+    /**
+     * 페이지 1개 적재 (호출 스레드에서만 실행)
+     */
+    private void savePage(
+            int apiTeamId,
+            int season,
+            long teamId,
+            PagedFetcher.Page<List<MatchStatLine>> page
+    ) {
+
+        List<MatchStatLine> lines = page.getItems();
+
+        // 페이지 내 전체 선수 ID를 한 번에 매핑 (IN 일괄 조회)
+        List<Integer> apiPlayerIds = new ArrayList<>();
+        for (MatchStatLine line : lines) {
+            apiPlayerIds.add(line.getApiPlayerId());
+        }
+        idResolver.prefetchPlayers(apiPlayerIds);
 
+        List<MatchStatLine> rows = new ArrayList<>();
 
-                    int minutes = 0;
-                    Double rating = null;
+        for (MatchStatLine line : lines) {
 
-                    if (stats.length() > 0) {
-                        JSONObject stat = stats.getJSONObject(0);
-                        JSONObject games = stat.getJSONObject("games");
+            // 경기 날짜 없음 (응답 누락) → 적재 불가
+            if (line.getMatchDate() == null) continue;
 
-                        minutes = games.optInt("minutes", 0);
+            // player 없으면 건너뜀 (선수 생성은 PlayerSeasonStatService 담당)
+            long playerId =
+                    idResolver.resolvePlayerId(line.getApiPlayerId());
 
-                        String ratingStr = games.optString("rating", null);
-                        if (ratingStr != null && !ratingStr.isEmpty()) {
-                            rating = Double.parseDouble(ratingStr);
-                        }
-                    }
+            if (playerId == 0L) continue;
 
-                    // stats가 없어도 반드시 INSERT
-                    playerMatchStatDao.upsert(
-                            playerId,
-                            teamId,
-                            matchId,
-                            season,
-                            matchDate,
-                            minutes,
-                            rating
-                    );
-                }
-            }
-
-            page++;
+            line.setPlayerId(playerId);
+            line.setTeamId(teamId);
+            rows.add(line);
         }
+
+        // 페이지 1개 = 트랜잭션 1개
+        playerMatchStatDao.upsertAll(rows, season);
+
+        System.out.println(
+            "[MATCH] apiTeamId=" + apiTeamId +
+            " page=" + page.getPage() + "/" + page.getTotalPages() +
+            " rows=" + rows.size()
+        );
     }
 }
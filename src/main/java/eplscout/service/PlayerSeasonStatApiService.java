@@ -1,12 +1,12 @@
 package eplscout.service;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
+import eplscout.model.PlayerStatLine;
+import org.springframework.stereotype.Service;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * PlayerSeasonStatApiService
@@ -14,49 +14,61 @@ import java.net.http.HttpResponse;
  * 책임
  * - /players 엔드포인트 호출 전담
  * - 팀/시즌 기준 선수 시즌 누적 스탯 조회
- * - page 단위 JSON 원문 반환
+ * - page 단위 응답을 스트림으로 읽어 PlayerStatLine 으로 전달
  *
  * DB, DAO 모름
  */
+@Service
 public class PlayerSeasonStatApiService {
 
-    private static final String API_KEY = "a170bd56a00dfe33e79d77ee714398ac";
-    private static final String BASE_URL = "https://v3.football.api-sports.io";
+    private final ApiFootballClient apiClient;
+    private final ApiSportsStreamReader reader;
 
-    private final HttpClient client = HttpClient.newHttpClient();
+    public PlayerSeasonStatApiService(
+            ApiFootballClient apiClient,
+            ApiSportsStreamReader reader
+    ) {
+        this.apiClient = apiClient;
+        this.reader = reader;
+    }
 
-    public JSONObject fetchPlayersStatPage(
+    /**
+     * /players 페이지 1개 조회
+     *
+     * @param sink 선수 1명 단위 콜백 (stat 은 리그/시즌 불일치 시 null)
+     * @return 전체 페이지 수
+     */
+    public int fetchPlayersStatPage(
             int leagueId,
             int season,
             int apiTeamId,
-            int page
+            int page,
+            Consumer<PlayerStatLine> sink
     ) throws Exception {
 
-        String url = BASE_URL + "/players"
-                + "?league=" + leagueId
-                + "&season=" + season
-                + "&team=" + apiTeamId
-                + "&page=" + page;
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("x-apisports-key", API_KEY)
-                .GET()
-                .build();
-
-        HttpResponse<String> response =
-                client.send(request, HttpResponse.BodyHandlers.ofString());
-
-        return new JSONObject(response.body());
+        return fetchPlayersStatPage(leagueId, season, apiTeamId, page, false, sink);
     }
 
-    public int getTotalPages(JSONObject json) {
-        if (!json.has("paging")) return 1;
-        return json.getJSONObject("paging").optInt("total", 1);
-    }
+    /**
+     * /players 페이지 1개 조회 (offline = 캐시만 사용)
+     */
+    public int fetchPlayersStatPage(
+            int leagueId,
+            int season,
+            int apiTeamId,
+            int page,
+            boolean offline,
+            Consumer<PlayerStatLine> sink
+    ) throws Exception {
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("league", leagueId);
+        params.put("season", season);
+        params.put("team", apiTeamId);
+        params.put("page", page);
 
-    public JSONArray getResponseArray(JSONObject json) {
-        if (!json.has("response")) return new JSONArray();
-        return json.getJSONArray("response");
+        try (InputStream in = apiClient.get("/players", params, offline)) {
+            return reader.readPlayers(in, leagueId, season, sink);
+        }
     }
 }
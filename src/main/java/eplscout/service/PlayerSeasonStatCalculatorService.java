@@ -1,71 +1,62 @@
 package eplscout.service;
 
 import eplscout.dao.PlayerSeasonStatDao;
-import eplscout.db.DBUtil;
+import org.springframework.stereotype.Service;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
+import java.util.Collection;
 
 /**
  * 시즌 집계 계산기
  *
  * - player_match_stat 기준으로 시즌 누적 스탯 계산
  * - player_id + season 기준으로 player_season_stat UPDATE
+ * - 집계 + 반영은 DB 에서 UPDATE ... JOIN 1문장 (선수별 왕복 없음)
+ * - 경기 기록 적재 후에는 영향받은 선수만 재집계 (recalculatePlayers)
+ *
+ * 값 기준 (appearances / minutes_played / avg_rating):
+ * - 경기 기록(player_match_stat)이 적재된 선수는 경기 기록 집계가 기준
+ *   (경기 기록 적재 시 전체 / 증분 모드 모두 재집계)
+ * - 출전 시간 0 경기는 제외 → /players 누계와 같은 정의
+ *   (/players 재수집으로 덮어써도 다음 경기 기록 적재 때 같은 값으로 수렴)
+ * - 그 외 컬럼(골 / 도움 등)은 /players 값 유지
  */
+@Service
 public class PlayerSeasonStatCalculatorService {
 
     private final PlayerSeasonStatDao seasonStatDao =
             new PlayerSeasonStatDao();
 
-    public void calculateSeasonStats(int season) {
-
-        String sql = """
-            SELECT
-                player_id,
-                season,
-                COUNT(*) AS appearances,
-                SUM(minutes_played) AS total_minutes,
-                AVG(rating) AS avg_rating
-            FROM player_match_stat
-            WHERE season = ?
-            GROUP BY player_id, season
-        """;
+    /**
+     * 시즌 전체 재집계
+     *
+     * @return 반영 행 수
+     */
+    public int calculateSeasonStats(int season) {
 
-        try (Connection conn = DBUtil.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        int updated = seasonStatDao.updateSeasonAggregates(season, null);
 
-            ps.setInt(1, season);
+        System.out.println("[AGG] season=" + season + " updated=" + updated);
 
-            try (ResultSet rs = ps.executeQuery()) {
+        return updated;
+    }
 
-                while (rs.next()) {
+    /**
+     * 지정 선수만 재집계 (증분 수집으로 경기 기록이 추가된 선수)
+     *
+     * @return 재집계 대상 선수 수
+     */
+    public int recalculatePlayers(int season, Collection<Long> playerIds) {
 
-                    long playerId = rs.getLong("player_id");
-                    int appearances = rs.getInt("appearances");
-                    int totalMinutes = rs.getInt("total_minutes");
+        if (playerIds == null || playerIds.isEmpty()) return 0;
 
-                    Double avgRating = rs.getDouble("avg_rating");
-                    if (rs.wasNull()) {
-                        avgRating = null;
-                    }
+        int updated = seasonStatDao.updateSeasonAggregates(season, playerIds);
 
-                    // DAO 시그니처와 정확히 일치
-                    seasonStatDao.updateSeasonAggregate(
-                            playerId,
-                            season,
-                            appearances,
-                            totalMinutes,
-                            avgRating
-                    );
-                }
-            }
+        System.out.println(
+            "[AGG] season=" + season +
+            " players=" + playerIds.size() +
+            " updated=" + updated
+        );
 
-        } catch (Exception e) {
-            throw new RuntimeException(
-                "시즌 누적 스탯 계산 실패 (season=" + season + ")",
-                e
-            );
-        }
+        return playerIds.size();
     }
 }
@@ -1,206 +1,182 @@
 package eplscout.service;
 
+import eplscout.dao.IdResolver;
 import eplscout.dao.PlayerDao;
 import eplscout.dao.PlayerSeasonStatDao;
-import eplscout.dao.TeamDao;
+import eplscout.model.Player;
+import eplscout.model.PlayerSeasonStat;
+import eplscout.model.PlayerStatLine;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * PlayerSeasonStatService
  *
  * 책임
- * - 팀/시즌 단위 시즌 누적 스탯 적재 총괄
+ * - 팀/시즌 단위 선수 기본정보 + 시즌 누적 스탯 적재 총괄
+ * - /players 페이지 1회 호출로 player / player_season_stat 모두 적재
+ *   (같은 응답을 선수용 / 스탯용으로 두 번 받지 않음)
  * - API → 내부 PK 매핑
  * - 확장 스탯까지 포함하여 DB 적재
+ * - 페이지 단위 일괄 UPSERT (테이블별 페이지당 트랜잭션 1개)
+ * - 2페이지 이후는 PagedFetcher 로 미리 조회 (조회 / 적재 겹쳐 실행)
  */
 import org.springframework.stereotype.Service;
 
 @Service
 public class PlayerSeasonStatService {
 
-    private final PlayerSeasonStatApiService apiService =
-            new PlayerSeasonStatApiService();
-
-    private final PlayerSeasonStatDao statDao =
-            new PlayerSeasonStatDao();
+    private final PlayerSeasonStatApiService apiService;
 
     private final PlayerDao playerDao =
             new PlayerDao();
 
-    private final TeamDao teamDao =
-            new TeamDao();
+    private final PlayerSeasonStatDao statDao =
+            new PlayerSeasonStatDao();
+
+    private final PagedFetcher pagedFetcher;
+    private final IdResolver idResolver;
+    private final DataVersionService versionService;
+
+    public PlayerSeasonStatService(
+            PlayerSeasonStatApiService apiService,
+            PagedFetcher pagedFetcher,
+            IdResolver idResolver,
+            DataVersionService versionService
+    ) {
+        this.apiService = apiService;
+        this.pagedFetcher = pagedFetcher;
+        this.idResolver = idResolver;
+        this.versionService = versionService;
+    }
 
     /**
-     * 팀 1개 시즌 스탯 적재
+     * 팀 1개 선수 기본정보 + 시즌 스탯 적재 (단일 패스)
+     *
+     * @return 적재 행 수 (player + player_season_stat)
      */
-    public void loadTeamSeasonStats(
+    public int loadTeamPlayersAndStats(
             int leagueId,
             int season,
             int apiTeamId
-    ) 
-    
-    
-    throws Exception {
+    ) throws Exception {
+
+        return loadTeamPlayersAndStats(
+                leagueId, season, apiTeamId, PagedFetcher.NO_CHECKPOINT, false);
+    }
+
+    /**
+     * 팀 1개 선수 기본정보 + 시즌 스탯 적재 (완료 페이지 생략)
+     *
+     * @param offline true 면 캐시된 응답만 사용
+     * @return 적재 행 수 (player + player_season_stat)
+     */
+    public int loadTeamPlayersAndStats(
+            int leagueId,
+            int season,
+            int apiTeamId,
+            PagedFetcher.PageCheckpoint checkpoint,
+            boolean offline
+    ) throws Exception {
 
         long teamId =
-                teamDao.findTeamIdByApiTeamIdAndSeason(apiTeamId, season);
+                idResolver.resolveTeamId(apiTeamId, season);
 
         if (teamId == 0L) {
             System.out.println("[SKIP] team_id 없음 apiTeamId=" + apiTeamId);
-            return;
+            return 0;
         }
 
-        int page = 1;
-        JSONObject first =
-                apiService.fetchPlayersStatPage(
-                        leagueId, season, apiTeamId, page);
+        int[] rows = new int[1];
+
+        // 1페이지 paging 으로 전체 페이지 수 결정 → 나머지는 동시 조회
+        pagedFetcher.fetchAll(
+                page -> {
+                    // 페이지 전체 선수 (stat 은 리그/시즌 스탯 없으면 null)
+                    List<PlayerStatLine> lines = new ArrayList<>();
+                    int totalPages =
+                            apiService.fetchPlayersStatPage(
+                                    leagueId, season, apiTeamId, page, offline, lines::add);
+                    return new PagedFetcher.Page<>(page, totalPages, lines);
+                },
+                page -> rows[0] += savePage(apiTeamId, season, teamId, page),
+                checkpoint
+        );
+
+        // 선수 나이/포지션 + 시즌 스탯 변경 → 팀 요약 및 추천 재계산 대상
+        versionService.bumpSeason(season);
+
+        return rows[0];
+    }
 
-        int totalPages =
-                apiService.getTotalPages(first);
+    /**
+     * 페이지 1개 적재 (호출 스레드에서만 실행)
+     *
+     * @return 적재 행 수
+     */
+    private int savePage(
+            int apiTeamId,
+            int season,
+            long teamId,
+            PagedFetcher.Page<List<PlayerStatLine>> page
+    ) {
+
+        List<PlayerStatLine> lines = page.getItems();
+
+        // ==================================================
+        // 1) 선수 기본정보 일괄 UPSERT
+        // ==================================================
+        List<Player> pagePlayers = new ArrayList<>(lines.size());
+        List<Integer> apiPlayerIds = new ArrayList<>(lines.size());
+
+        for (PlayerStatLine line : lines) {
+            pagePlayers.add(line.getPlayer());
+            apiPlayerIds.add(line.getPlayer().getApiPlayerId());
+        }
+
+        playerDao.upsertFullPlayers(pagePlayers);
+
+        // 신규 선수 반영: 음수 캐시 제거 후 페이지 선수 ID 한 번에 매핑 (IN 일괄 조회)
+        idResolver.evictPlayers(apiPlayerIds);
+        idResolver.prefetchPlayers(apiPlayerIds);
 
-        while (page <= totalPages) {
+        // ==================================================
+        // 2) 같은 응답에서 시즌 스탯 수집
+        // ==================================================
+        List<PlayerSeasonStat> pageStats = new ArrayList<>();
 
-            JSONObject json =
-                    apiService.fetchPlayersStatPage(
-                            leagueId, season, apiTeamId, page);
+        for (PlayerStatLine line : lines) {
 
-            JSONArray players =
-                    apiService.getResponseArray(json);
+            PlayerSeasonStat seasonStat = line.getStat();
 
-            for (int i = 0; i < players.length(); i++) {
-
-                JSONObject obj = players.getJSONObject(i);
-
-                JSONObject playerJson = obj.getJSONObject("player");
-                int apiPlayerId = playerJson.getInt("id");
-
-                long playerId =
-                        playerDao.findPlayerIdByApiPlayerId(apiPlayerId);
-
-                if (playerId == 0L) continue;
-
-                JSONArray stats = obj.getJSONArray("statistics");
-                if (stats.length() == 0) continue;
-
-                // =========================
-                // 리그 + 시즌 필터링
-                // =========================
-                JSONObject stat = null;
-
-                for (int j = 0; j < stats.length(); j++) {
-                    JSONObject s = stats.getJSONObject(j);
-                    JSONObject league = s.getJSONObject("league");
-
-                    if (league.getInt("id") == leagueId
-                            && league.getInt("season") == season) {
-                        stat = s;
-                        break;
-                    }
-                }
-
-                if (stat == null) continue;
-
-                // =========================
-                // 공통 베이스 스탯
-                // =========================
-                JSONObject games = stat.getJSONObject("games");
-
-                int appearances =
-                        games.optInt("appearences", 0);
-                int minutes =
-                        games.optInt("minutes", 0);
-
-                Double rating = null;
-                String ratingStr =
-                        games.optString("rating", null);
-                if (ratingStr != null && !ratingStr.isEmpty()) {
-                    rating = Double.parseDouble(ratingStr);
-                }
-
-                // =========================
-                // 공격 지표
-                // =========================
-                JSONObject goals = stat.optJSONObject("goals");
-                int goalsTotal = goals != null ? goals.optInt("total", 0) : 0;
-                int assists = goals != null ? goals.optInt("assists", 0) : 0;
-
-                JSONObject shots = stat.optJSONObject("shots");
-                int shotsTotal = shots != null ? shots.optInt("total", 0) : 0;
-
-                // =========================
-                // 패스 지표
-                // =========================
-                JSONObject passes = stat.optJSONObject("passes");
-                int keyPasses = passes != null ? passes.optInt("key", 0) : 0;
-
-                double passAccuracy = 0;
-                if (passes != null) {
-                    String accStr = passes.optString("accuracy", "0");
-                    if (!accStr.isEmpty()) {
-                        passAccuracy = Double.parseDouble(accStr);
-                    }
-                }
-
-                // =========================
-                // 수비 지표
-                // =========================
-                JSONObject tackles = stat.optJSONObject("tackles");
-                int tacklesTotal =
-                        tackles != null ? tackles.optInt("total", 0) : 0;
-                int interceptions =
-                        tackles != null ? tackles.optInt("interceptions", 0) : 0;
-
-                JSONObject defense = stat.optJSONObject("defense");
-                int clearances = defense != null ? defense.optInt("clearances", 0) : 0;
-
-
-
-                // =========================
-                // 골키퍼 지표
-                // =========================
-                JSONObject goalkeeper = stat.optJSONObject("goalkeeper");
-                int saves =
-                        goalkeeper != null ? goalkeeper.optInt("saves", 0) : 0;
-
-                int goalsConceded =
-                        goals != null ? goals.optInt("conceded", 0) : 0;
-
-                // ==================================================
-                // DAO 적재 (확장 스탯 포함)
-                // ==================================================
-                statDao.upsertWithExtendedStats(
-                        playerId,
-                        teamId,
-                        season,
-
-                        // base
-                        appearances,
-                        minutes,
-                        rating,
-
-                        // attack
-                        goalsTotal,
-                        assists,
-                        shotsTotal,
-
-                        // pass
-                        keyPasses,
-                        passAccuracy,
-
-                        // defense
-                        tacklesTotal,
-                        interceptions,
-                        clearances,
-
-                        // goalkeeper
-                        saves,
-                        goalsConceded
-                );
-            }
-
-            page++;
+            if (seasonStat == null) continue;
+
+            long playerId =
+                    idResolver.resolvePlayerId(line.getPlayer().getApiPlayerId());
+
+            if (playerId == 0L) continue;
+
+            seasonStat.setPlayerId(playerId);
+            seasonStat.setTeamId(teamId);
+            seasonStat.setSeason(season);
+
+            pageStats.add(seasonStat);
         }
+
+        // ==================================================
+        // DAO 일괄 적재 (페이지 1개 = 트랜잭션 1개)
+        // ==================================================
+        List<Integer> batchCounts = statDao.upsertAll(pageStats);
+
+        System.out.println(
+            "[STAT] apiTeamId=" + apiTeamId +
+            " page=" + page.getPage() + "/" + page.getTotalPages() +
+            " players=" + pagePlayers.size() +
+            " rows=" + pageStats.size() +
+            " batches=" + batchCounts
+        );
+
+        return pagePlayers.size() + pageStats.size();
     }
 }
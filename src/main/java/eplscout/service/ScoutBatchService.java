@@ -1,47 +1,116 @@
 package eplscout.service;
 
 import eplscout.dao.TeamDao;
+import eplscout.model.ScoutRecommendation;
+import eplscout.scoring.PlayerBaseValues;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * ScoutBatchService
+ *
+ * - 시즌 전체 팀 추천 배치
+ * - 시즌 기준값(스냅샷 + 팀 무관 점수)은 1회만 계산 후 모든 팀이 공유
+ * - 팀 × 후보 점수 행렬을 CPU 코어 수만큼 병렬 계산
+ * - 결과는 한 트랜잭션으로 일괄 저장
+ */
 @Service
 public class ScoutBatchService {
 
     private final TeamDao teamDao;
     private final ScoutRecommendationService scoutRecommendationService;
+    private final PlayerBaseValueService baseValueService;
+    private final DataVersionService versionService;
 
     public ScoutBatchService(
             TeamDao teamDao,
-            ScoutRecommendationService scoutRecommendationService
+            ScoutRecommendationService scoutRecommendationService,
+            PlayerBaseValueService baseValueService,
+            DataVersionService versionService
     ) {
         this.teamDao = teamDao;
         this.scoutRecommendationService = scoutRecommendationService;
+        this.baseValueService = baseValueService;
+        this.versionService = versionService;
     }
 
     /**
      * 시즌 기준 전체 팀 추천 배치 실행
+     *
+     * @return { teams, recommendations, computeMs, totalMs, teamsPerSec, teamTimingsMs }
      */
-    public void runRecommendationBatch(int season) {
+    public Map<String, Object> runRecommendationBatch(int season) {
 
-        try {
-            //  season 기준 team 테이블에 존재하는 team_id 목록           
-            List<Integer> teamIds = teamDao.findApiTeamIdsBySeason(season);
+        long batchStart = System.nanoTime();
 
-            for (int teamId : teamIds) {
+        //  season 기준 team 테이블에 존재하는 내부 team_id 목록
+        List<Long> teamIds = teamDao.findTeamIdsBySeason(season);
 
-                System.out.println(
-                        "추천 배치 실행: team_id=" + teamId + ", season=" + season
-                );
+        // 후보 풀 + 팀 무관 점수는 1회만 계산 (전체 팀 공유, 읽기 전용)
+        PlayerBaseValues baseValues = baseValueService.getBaseValues(season);
 
-                scoutRecommendationService.recommendPlayers(
-                        teamId,
-                        season
-                );
-            }
+        // 계산 시작 시점 시즌 입력 버전 (계산 중 변경되면 다음 조회 때 재계산)
+        long version = versionService.currentVersion(season);
 
-        } catch (Exception e) {
-            throw new RuntimeException("추천 배치 실행 실패", e);
+        // 팀 × 후보 점수 행렬 (블록 병렬) + 팀별 상위 N 선별
+        long computeStart = System.nanoTime();
+
+        // 팀별 소요 시간 (팀 입력 조회 + 행렬 계산 중 해당 팀 몫 + 선별)
+        Map<Long, Double> teamTimings = new LinkedHashMap<>();
+
+        Map<Long, List<ScoutRecommendation>> resultsByTeam =
+                scoutRecommendationService.computeLeagueRecommendations(
+                        season, teamIds, baseValues, teamTimings);
+
+        long computeMs = (System.nanoTime() - computeStart) / 1_000_000;
+
+        // 전체 팀 결과 일괄 저장 (단일 트랜잭션)
+        int saved = scoutRecommendationService.saveRecommendations(
+                season, resultsByTeam, version);
+
+        long totalMs = (System.nanoTime() - batchStart) / 1_000_000;
+
+        // =========================
+        // 실행 리포트
+        // =========================
+        Map<String, Object> report = new LinkedHashMap<>();
+
+        report.put("season", season);
+        report.put("teams", teamIds.size());
+        report.put("threads", scoutRecommendationService.getMatrixThreads());
+        report.put("candidates", baseValues.size());
+        report.put("recommendations", saved);
+        report.put("computeMs", computeMs);
+        report.put("totalMs", totalMs);
+        report.put("teamsPerSec",
+                totalMs == 0 ? 0.0 : teamIds.size() * 1000.0 / totalMs);
+
+        Map<Long, Long> timings = new LinkedHashMap<>();
+        for (long teamId : teamIds) {
+            timings.put(teamId, Math.round(teamTimings.getOrDefault(teamId, 0.0)));
         }
+        report.put("teamTimingsMs", timings);
+
+        System.out.println("[SCOUT BATCH] " + report);
+
+        return report;
+    }
+
+    /**
+     * 리그 전체 추천 리포트 (저장 없음)
+     *
+     * @return team_id → 추천 목록 (점수 내림차순)
+     */
+    public Map<Long, List<ScoutRecommendation>> leagueReport(int season) {
+
+        List<Long> teamIds = teamDao.findTeamIdsBySeason(season);
+
+        PlayerBaseValues baseValues = baseValueService.getBaseValues(season);
+
+        return scoutRecommendationService.computeLeagueRecommendations(
+                season, teamIds, baseValues);
     }
 }
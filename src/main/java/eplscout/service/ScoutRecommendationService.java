@@ -3,26 +3,31 @@ package eplscout.service;
 import eplscout.dao.ScoutRecommendationDao;
 import eplscout.db.DBUtil;
 import eplscout.model.PlayerSeasonStat;
-import eplscout.model.PlayerInjuryStat;
-import eplscout.model.Player;
-import eplscout.scoring.PerformanceCalculator;
-import eplscout.scoring.InjuryRiskCalculator;
-import eplscout.scoring.PlayerValueCalculator;
+import eplscout.model.ScoutRecommendation;
+import eplscout.scoring.LeagueScoreMatrix;
+import eplscout.scoring.PlayerBaseValues;
+import eplscout.scoring.RecommendationScorer;
+import eplscout.scoring.SeasonStatSnapshot;
+import eplscout.scoring.TeamScoutProfile;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * ScoutRecommendationService
  *
  * 핵심 책임:
- * 1. 시즌 기준 외부 선수 풀 조회
- * 2. 퍼포먼스 점수 계산
- * 3. 부상 리스크 반영
- * 4. 팀 구조(약점/연령) 보정
+ * 1. 시즌 기준 외부 선수 풀 조회 (SeasonStatSnapshot 메모리 스캔)
+ * 2~3. 퍼포먼스 / 부상 / 나이 보정 (PlayerBaseValues 사전 계산값 사용)
+ * 4. 팀 구조(약점/연령/팀 레벨) 보정
  * 5. 최종 추천 점수 및 포텐셜 산출
- * 6. scout_recommendation 테이블 저장
+ * 6. 포지션별 상위 K명만 선별 (LeagueScoreMatrix, 팀 여러 개 동시 계산)
+ * 7. scout_recommendation 테이블 저장 (팀/시즌 단위 트랜잭션 교체)
  */
 @Service
 public class ScoutRecommendationService {
@@ -30,28 +35,86 @@ public class ScoutRecommendationService {
     private final ScoutRecommendationDao recommendationDao;
     private final LLMService llmService;
     private final TeamSummaryService teamSummaryService;
+    private final PlayerBaseValueService baseValueService;
+    private final DataVersionService versionService;
+
+    // (시즌, 팀) → 마지막 추천 계산 시점의 시즌 입력 버전
+    private final Map<SeasonTeam, Long> computedVersions =
+            new ConcurrentHashMap<>();
+
+    private record SeasonTeam(int season, long teamId) {}
+
+    // 팀/시즌당 저장할 최대 추천 수
+    private final int topN;
+
+    // 포지션 코드별 최대 추천 수 (미지정 시 topN)
+    private final int[] positionQuotas;
+
+    // 리그 점수 행렬 병렬 계산용 공유 풀 (CPU 코어 수, 단일 팀 계산은 호출 스레드에서 실행)
+    private final int matrixThreads = Runtime.getRuntime().availableProcessors();
+
+    private final ExecutorService matrixExecutor =
+            Executors.newFixedThreadPool(matrixThreads, r -> {
+                Thread t = new Thread(r, "score-matrix");
+                t.setDaemon(true);
+                return t;
+            });
 
     /* ===============================
        계산 전용 객체 (점수 엔진)
        =============================== */
 
-    private final PerformanceCalculator performanceCalculator =
-            new PerformanceCalculator();
-
-    private final InjuryRiskCalculator injuryRiskCalculator =
-            new InjuryRiskCalculator();
-
-    private final PlayerValueCalculator playerValueCalculator =
-            new PlayerValueCalculator();
+    private final RecommendationScorer scorer =
+            new RecommendationScorer();
 
     public ScoutRecommendationService(
             ScoutRecommendationDao recommendationDao,
             LLMService llmService,
-            TeamSummaryService teamSummaryService
+            TeamSummaryService teamSummaryService,
+            PlayerBaseValueService baseValueService,
+            DataVersionService versionService,
+            @Value("${scout.recommendation.top-n:10}") int topN,
+            @Value("${scout.recommendation.position-quota:}") String positionQuota
     ) {
         this.recommendationDao = recommendationDao;
         this.llmService = llmService;
         this.teamSummaryService = teamSummaryService;
+        this.baseValueService = baseValueService;
+        this.versionService = versionService;
+        this.topN = topN;
+        this.positionQuotas = parsePositionQuotas(positionQuota, topN);
+    }
+
+    /**
+     * "GK:2,DF:4,MF:4,FW:4" 형식 → 포지션 코드별 할당량
+     */
+    private static int[] parsePositionQuotas(String spec, int topN) {
+
+        int[] quotas = new int[SeasonStatSnapshot.POSITION_CODE_COUNT];
+        Arrays.fill(quotas, topN);
+
+        if (spec == null || spec.isBlank()) {
+            return quotas;
+        }
+
+        for (String entry : spec.split(",")) {
+
+            String[] kv = entry.trim().split(":");
+
+            if (kv.length != 2) {
+                throw new RuntimeException("포지션 할당량 형식 오류: " + entry);
+            }
+
+            byte code = SeasonStatSnapshot.positionCode(kv[0].trim());
+
+            if (code == SeasonStatSnapshot.POS_UNKNOWN) {
+                throw new RuntimeException("알 수 없는 포지션: " + kv[0]);
+            }
+
+            quotas[code] = Math.min(topN, Integer.parseInt(kv[1].trim()));
+        }
+
+        return quotas;
     }
 
     /* =====================================================
@@ -59,239 +122,217 @@ public class ScoutRecommendationService {
        ===================================================== */
     public void recommendPlayers(long teamId, int season, String mode) {
 
-        Map<String, Object> teamSummary =
-                teamSummaryService.getTeamSummary(teamId, season);
+        // 계산 시작 시점 입력 버전 (계산 중 변경되면 다음 조회 때 재계산)
+        long version = versionService.currentVersion(season);
 
-        double teamAvgAge = teamSummary.get("avgAge") == null
-                ? 0.0
-                : ((Number) teamSummary.get("avgAge")).doubleValue();
+        TeamScoutProfile profile = buildProfile(teamId, season);
 
-        double teamLevel = teamSummary.get("avgRating") == null
-                ? 0.0
-                : ((Number) teamSummary.get("avgRating")).doubleValue();
+        // 시즌 기준값 (없으면 약점 포지션 후보만 SQL 필터 적재)
+        PlayerBaseValues baseValues =
+                baseValueService.getCandidateValues(season, profile);
 
-        boolean agingTeam = teamAvgAge >= 27.5;
+        List<ScoutRecommendation> results =
+                computeForProfiles(season, List.of(profile), baseValues, null, null)
+                        .getOrDefault(teamId, List.of());
 
-        // 기존 추천 결과 삭제
-        recommendationDao.deleteByTeamAndSeason(teamId, season);
+        // 기존 결과 삭제 + 신규 결과 저장 (단일 트랜잭션)
+        recommendationDao.replaceForTeamAndSeason(teamId, season, results);
+        markComputed(teamId, season, version);
+    }
 
-        List<String> weakPositions =
-                (List<String>) teamSummary.get("weakPositions");
+    /**
+     * 리그 점수 행렬 공유 풀 스레드 수 (배치 리포트용)
+     */
+    public int getMatrixThreads() { return matrixThreads; }
+
+    /**
+     * 여러 팀 추천 점수 일괄 계산 (저장 없음)
+     *
+     * - 팀 × 후보 점수 행렬을 블록 단위 병렬 계산 (LeagueScoreMatrix, 공유 풀)
+     * - 팀별 포지션 할당량 / 상위 N 선별까지 한 번에 수행
+     *
+     * @return team_id → 추천 목록 (점수 내림차순, 약점 포지션 없으면 빈 목록)
+     */
+    public Map<Long, List<ScoutRecommendation>> computeLeagueRecommendations(
+            int season,
+            List<Long> teamIds,
+            PlayerBaseValues baseValues
+    ) {
 
-        if (weakPositions == null || weakPositions.isEmpty()) {
-            return;
-        }
+        return computeLeagueRecommendations(season, teamIds, baseValues, null);
+    }
 
-        List<String> normalizedWeakPositions = new ArrayList<>();
-        for (String pos : weakPositions) {
-            normalizedWeakPositions.add(normalizePosition(pos));
-        }
+    /**
+     * 여러 팀 추천 점수 일괄 계산 + 팀별 소요 시간
+     *
+     * @param teamTimingsMs team_id → 팀 입력 조회 + 점수 계산 + 선별 시간 (ms) 기록용 (null 이면 생략)
+     */
+    public Map<Long, List<ScoutRecommendation>> computeLeagueRecommendations(
+            int season,
+            List<Long> teamIds,
+            PlayerBaseValues baseValues,
+            Map<Long, Double> teamTimingsMs
+    ) {
 
-        String sql =
-                "SELECT " +
-                "p.player_id, " +
-                "p.name, " +
-                "p.position, " +
-                "p.age, " +
-                "p.birth_date, " +
-                "pss.team_id, " +
-                "pss.appearances, " +
-                "pss.minutes_played, " +
-                "pss.avg_rating, " +
-                "pss.goals, " +
-                "pss.assists, " +
-                "pss.shots, " +
-                "pss.key_passes, " +
-                "pss.pass_accuracy, " +
-                "pss.tackles, " +
-                "pss.interceptions, " +
-                "pss.clearances, " +
-                "pss.saves, " +
-                "pss.goals_conceded " +
-                "FROM player_season_stat pss " +
-                "JOIN player p ON pss.player_id = p.player_id " +
-                "WHERE pss.season = ? " +
-                "AND pss.team_id != ?";
+        List<TeamScoutProfile> profiles = new ArrayList<>();
 
-        try (Connection conn = DBUtil.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        for (long teamId : teamIds) {
 
-            ps.setInt(1, season);
-            ps.setLong(2, teamId);
+            long start = System.nanoTime();
 
-            try (ResultSet rs = ps.executeQuery()) {
+            profiles.add(buildProfile(teamId, season));
 
-                while (rs.next()) {
-
-                    PlayerSeasonStat stat =
-                            buildPlayerSeasonStat(rs, season);
-
-                    if (!normalizedWeakPositions.contains(stat.getPosition())) {
-                        continue;
-                    }
-
-                    Player player = new Player(
-                            rs.getInt("player_id"),
-                            rs.getString("name"),
-                            rs.getInt("age"),
-                            0,
-                            rs.getString("position"),
-                            null
-                    );
-
-                    player.setName(rs.getString("name"));
-                    player.setPosition(rs.getString("position"));
-                    player.setAge(rs.getInt("age"));
-
-                    java.sql.Date birth = rs.getDate("birth_date");
-
-                    if (birth != null) {
-                        player.setBirthDate(birth.toLocalDate());
-                    }
-
-                    PlayerInjuryStat injuryStat =
-                            loadInjuryStat(conn,
-                                    stat.getPlayerId(),
-                                    season);
-
-                    if (injuryStat != null && injuryStat.isCurrentInjured()) {
-                        continue;
-                    }
-
-                    double injuryRate =
-                            injuryStat == null ? 0.0 :
-                                    injuryStat.getInjuryRate();
-
-                    /* ===============================
-                        Market Value 통일 계산
-                       =============================== */
-                    double playerValue =
-                            playerValueCalculator.calculateValue(
-                                    stat,
-                                    player,
-                                    stat.getRating(),
-                                    injuryRate
-                            );
-
-                    // 100점 스케일 변환
-                    playerValue = Math.min(playerValue * 100, 100);
-
-                    double potentialScore =
-                            calculatePotential(
-                                    player.getAge(),
-                                    stat.getRating(),
-                                    agingTeam,
-                                    injuryStat
-                            );
-
-                    double finalScore =
-                            (playerValue * 0.7)
-                          + (potentialScore * 5 * 0.3);
-
-                    finalScore *= 1.2;
-
-                    String styleDescription =
-                            "[AUTO] " + summarizePlayStyle(stat);
-
-                    recommendationDao.upsert(
-                            conn,
-                            teamId,
-                            stat.getPlayerId(),
-                            season,
-                            stat.getPosition(),
-                            finalScore,
-                            potentialScore,
-                            playerValue,
-                            styleDescription
-                    );
-                }
+            if (teamTimingsMs != null) {
+                teamTimingsMs.put(teamId, (System.nanoTime() - start) / 1_000_000.0);
             }
-
-        } catch (Exception e) {
-            throw new RuntimeException("추천 계산 실패", e);
         }
+
+        return computeForProfiles(season, profiles, baseValues, matrixExecutor, teamTimingsMs);
     }
 
-    private double calculatePotential(
-            int age,
-            Double rating,
-            boolean agingTeam,
-            PlayerInjuryStat injuryStat
+    private Map<Long, List<ScoutRecommendation>> computeForProfiles(
+            int season,
+            List<TeamScoutProfile> profiles,
+            PlayerBaseValues baseValues,
+            ExecutorService executor,
+            Map<Long, Double> teamTimingsMs
     ) {
 
-        /*
-         * 성장 잠재력은 경기력과 분리하여
-         * "연령 기반 성장 가능성 지표"로 설계
-         */
+        Map<Long, List<ScoutRecommendation>> results = new LinkedHashMap<>();
 
-        double base;
+        List<TeamScoutProfile> weakTeams = new ArrayList<>();
 
-        if (age <= 21) base = 10;
-        else if (age <= 24) base = 8;
-        else if (age <= 27) base = 5;
-        else if (age <= 30) base = 2;
-        else base = 0.5;
+        for (TeamScoutProfile profile : profiles) {
 
-        double result = base;
+            if (profile.hasWeakPosition()) {
+                weakTeams.add(profile);
+            }
 
-        // 고령 팀일 경우 젊은 선수 보정
-        if (agingTeam && age <= 24) {
-            result *= 1.2;
+            // 약점 포지션 없음 → 추천 결과 없음 (기존 결과는 비워짐)
+            results.put(profile.getTeamId(), List.of());
         }
 
-        // 최근 3년 부상 이력 많으면 감점
-        if (injuryStat != null &&
-                injuryStat.getTotalInjuryLast3Years() >= 5) {
-            result *= 0.75;
+        LeagueScoreMatrix matrix = LeagueScoreMatrix.compute(
+                baseValues, weakTeams, scorer, positionQuotas, topN, executor);
+
+        for (int t = 0; t < matrix.teamCount(); t++) {
+
+            TeamScoutProfile team = matrix.getTeam(t);
+
+            if (teamTimingsMs != null) {
+                teamTimingsMs.merge(team.getTeamId(), matrix.getTeamMillis(t), Double::sum);
+            }
+
+            List<ScoutRecommendation> list = new ArrayList<>();
+
+            for (int row : matrix.getTopRows(t)) {
+                list.add(toRecommendation(
+                        baseValues, row, team, season, matrix.getScore(t, row)));
+            }
+
+            results.put(team.getTeamId(), list);
         }
 
-        return result;
+        return results;
     }
 
-    private PlayerInjuryStat loadInjuryStat(
-            Connection conn,
-            long playerId,
-            int season) throws SQLException {
+    /**
+     * TeamSummaryService 결과 → 점수 계산용 팀 입력값
+     */
+    private TeamScoutProfile buildProfile(long teamId, int season) {
 
-        String sql = """
-            SELECT *
-            FROM player_injury_stat
-            WHERE player_id = ?
-              AND season = ?
-        """;
+        Map<String, Object> teamSummary =
+                teamSummaryService.getTeamSummary(teamId, season);
+
+        double teamAvgAge = teamSummary.get("avgAge") == null
+                ? 0.0
+                : ((Number) teamSummary.get("avgAge")).doubleValue();
 
-        try (PreparedStatement ps =
-                     conn.prepareStatement(sql)) {
+        double teamLevel = teamSummary.get("avgRating") == null
+                ? 0.0
+                : ((Number) teamSummary.get("avgRating")).doubleValue();
 
-            ps.setLong(1, playerId);
-            ps.setInt(2, season);
+        boolean agingTeam = teamAvgAge >= 27.5;
 
-            try (ResultSet rs = ps.executeQuery()) {
+        List<String> weakPositions =
+                (List<String>) teamSummary.get("weakPositions");
 
-                if (rs.next()) {
+        // 약점 포지션 코드 마스크 (GK/DF/MF/FW)
+        boolean[] weakMask =
+                new boolean[SeasonStatSnapshot.POSITION_CODE_COUNT];
 
-                    PlayerInjuryStat stat =
-                            new PlayerInjuryStat();
-
-                    stat.setPlayerId(playerId);
-                    stat.setSeason(season);
-                    stat.setInjuryGames(
-                            rs.getInt("injury_games"));
-                    stat.setInjuryRate(
-                            rs.getDouble("injury_rate"));
-                    stat.setRepeatInjuryCount(
-                            rs.getInt("repeat_injury_count"));
-                    stat.setTotalInjuryLast3Years(
-                            rs.getInt("total_injury_last3years"));
-                    stat.setCurrentInjured(
-                            rs.getInt("current_injured") == 1);
-
-                    return stat;
-                }
+        if (weakPositions != null) {
+            for (String pos : weakPositions) {
+                weakMask[SeasonStatSnapshot.positionCode(pos)] = true;
             }
         }
+        weakMask[SeasonStatSnapshot.POS_UNKNOWN] = false;
 
-        return null;
+        return new TeamScoutProfile(teamId, teamLevel, agingTeam, weakMask);
+    }
+
+    /**
+     * 선별된 후보 1명 → 저장용 추천 객체
+     * (가치 / 포텐셜은 선별된 후보만 다시 계산)
+     */
+    private ScoutRecommendation toRecommendation(
+            PlayerBaseValues baseValues,
+            int row,
+            TeamScoutProfile team,
+            int season,
+            double finalScore
+    ) {
+
+        SeasonStatSnapshot snapshot = baseValues.getSnapshot();
+
+        String styleDescription =
+                "[AUTO] " + summarizePlayStyle(snapshot, row);
+
+        return new ScoutRecommendation(
+                team.getTeamId(),
+                snapshot.getPlayerId(row),
+                season,
+                SeasonStatSnapshot.positionName(snapshot.getPosition(row)),
+                finalScore,
+                scorer.potential(baseValues, row, team),
+                scorer.playerValue(baseValues, row, team),
+                styleDescription
+        );
+    }
+
+    /**
+     * 여러 팀 추천 결과 일괄 저장 (리그 배치용)
+     *
+     * @param version 계산 시작 시점 시즌 입력 버전
+     */
+    public int saveRecommendations(
+            int season,
+            Map<Long, List<ScoutRecommendation>> resultsByTeam,
+            long version
+    ) {
+
+        int saved = recommendationDao.replaceForTeams(season, resultsByTeam);
+
+        for (long teamId : resultsByTeam.keySet()) {
+            markComputed(teamId, season, version);
+        }
+
+        return saved;
+    }
+
+    private void markComputed(long teamId, int season, long version) {
+        computedVersions.put(new SeasonTeam(season, teamId), version);
+    }
+
+    /**
+     * 마지막 계산 이후 입력 데이터가 바뀌었는지 여부
+     */
+    private boolean isStale(long teamId, int season) {
+
+        Long computed = computedVersions.get(new SeasonTeam(season, teamId));
+
+        return computed == null
+                || computed != versionService.currentVersion(season);
     }
 
     private PlayerSeasonStat loadSeasonStatForLLM(
@@ -368,13 +409,20 @@ public class ScoutRecommendationService {
         };
     }
 
-    private String summarizePlayStyle(PlayerSeasonStat stat) {
+    private String summarizePlayStyle(SeasonStatSnapshot snapshot, int row) {
         return "전반적인 밸런스가 좋은 선수";
     }
 
+    /**
+     * 추천 결과 조회
+     * - 저장된 scout_recommendation 결과를 그대로 반환
+     * - 입력 데이터 버전이 바뀐 경우에만 재계산
+     */
     public Map<String, Object> view(long teamId, int season) {
 
-        recommendPlayers(teamId, season, "NORMAL");
+        if (isStale(teamId, season)) {
+            recommendPlayers(teamId, season, "NORMAL");
+        }
 
         Map<String, Object> result = new HashMap<>();
 
@@ -426,4 +474,14 @@ public class ScoutRecommendationService {
     public void recommendPlayers(long teamId, int season) {
         recommendPlayers(teamId, season, "NORMAL");
     }
+
+    /**
+     * 추천 결과 강제 재계산 후 조회
+     */
+    public Map<String, Object> refresh(long teamId, int season) {
+
+        recommendPlayers(teamId, season, "NORMAL");
+
+        return view(teamId, season);
+    }
 }
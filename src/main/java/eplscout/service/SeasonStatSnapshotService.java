@@ -0,0 +1,92 @@
+package eplscout.service;
+
+import eplscout.dao.PlayerSeasonStatDao;
+import eplscout.scoring.SeasonStatSnapshot;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SeasonStatSnapshotService
+ *
+ * 역할:
+ * - 시즌별 SeasonStatSnapshot 메모리 보관
+ * - 최초 요청 시 적재, 이후 추천 계산은 메모리 스캔만 수행
+ * - 시즌 입력 버전(DataVersionService)이 바뀌면 다음 조회 때 재적재
+ * - 수집 배치(BatchController)가 시즌 적재 후 refresh 호출
+ */
+@Service
+public class SeasonStatSnapshotService {
+
+    private final PlayerSeasonStatDao seasonStatDao;
+    private final DataVersionService versionService;
+
+    private final Map<Integer, SeasonStatSnapshot> snapshots =
+            new ConcurrentHashMap<>();
+
+    // 시즌 → 스냅샷 적재 시점의 시즌 입력 버전
+    private final Map<Integer, Long> loadedVersions =
+            new ConcurrentHashMap<>();
+
+    public SeasonStatSnapshotService(
+            PlayerSeasonStatDao seasonStatDao,
+            DataVersionService versionService
+    ) {
+        this.seasonStatDao = seasonStatDao;
+        this.versionService = versionService;
+    }
+
+    /**
+     * 시즌 스냅샷 조회 (없거나 입력이 바뀌었으면 적재)
+     */
+    public SeasonStatSnapshot getSnapshot(int season) {
+
+        if (isCurrent(season)) {
+            return snapshots.get(season);
+        }
+
+        return reloadIfStale(season);
+    }
+
+    /*
+     * 잠금 안에서 다시 확인 (double-checked)
+     * - 동시에 오래된 스냅샷을 본 호출들이 차례로 시즌 전체를 재적재하지 않도록
+     *   먼저 들어간 1건만 적재, 나머지는 그 결과 사용
+     */
+    private synchronized SeasonStatSnapshot reloadIfStale(int season) {
+
+        if (isCurrent(season)) {
+            return snapshots.get(season);
+        }
+
+        return refresh(season);
+    }
+
+    private boolean isCurrent(int season) {
+
+        Long loaded = loadedVersions.get(season);
+
+        return snapshots.containsKey(season)
+                && loaded != null
+                && loaded == versionService.currentVersion(season);
+    }
+
+    /**
+     * 시즌 스냅샷 재적재 (수집 배치 완료 후 호출, 버전과 무관하게 항상 적재)
+     */
+    public synchronized SeasonStatSnapshot refresh(int season) {
+
+        // 적재 전에 버전을 읽어둠 (적재 중 변경되면 다음 조회 때 재적재)
+        long version = versionService.currentVersion(season);
+
+        SeasonStatSnapshot snapshot = seasonStatDao.loadSeasonSnapshot(season);
+        snapshots.put(season, snapshot);
+        loadedVersions.put(season, version);
+
+        System.out.println(
+                "[SNAPSHOT] season=" + season + " rows=" + snapshot.size());
+
+        return snapshot;
+    }
+}
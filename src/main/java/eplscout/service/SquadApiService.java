@@ -3,13 +3,11 @@ package eplscout.service;
 import eplscout.model.Player;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.springframework.stereotype.Service;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SquadApiService
@@ -18,10 +16,14 @@ import java.util.List;
  *
  * - DB 저장/추천/GUI는 모름 -> API 통신 책임만 가짐
  */
+@Service
 public class SquadApiService {
 
-    private static final String API_KEY = "a170bd56a00dfe33e79d77ee714398ac";
-    private static final String BASE_URL = "https://v3.football.api-sports.io";
+    private final ApiFootballClient apiClient;
+
+    public SquadApiService(ApiFootballClient apiClient) {
+        this.apiClient = apiClient;
+    }
 
     /**
      * 팀 스쿼드 가져오기
@@ -32,18 +34,8 @@ public class SquadApiService {
 
         List<Player> players = new ArrayList<>();
 
-        String url = BASE_URL + "/players/squads?team=" + apiTeamId;
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("x-apisports-key", API_KEY)
-                .GET()
-                .build();
-
-        HttpResponse<String> response = HttpClient.newHttpClient()
-                .send(request, HttpResponse.BodyHandlers.ofString());
-
-        JSONObject json = new JSONObject(response.body());
+        JSONObject json =
+                apiClient.getJson("/players/squads", Map.of("team", apiTeamId));
 
         // 방어 코드: 실패 응답이면 response가 없을 수 있음
         if (!json.has("response")) {
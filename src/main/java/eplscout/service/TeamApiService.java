@@ -5,12 +5,10 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.stereotype.Service;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * TeamApiService
@@ -24,11 +22,11 @@ import java.util.List;
 @Service
 public class TeamApiService {
 
-    private static final String API_KEY =
-            "a170bd56a00dfe33e79d77ee714398ac";
+    private final ApiFootballClient apiClient;
 
-    private static final String BASE_URL =
-            "https://v3.football.api-sports.io";
+    public TeamApiService(ApiFootballClient apiClient) {
+        this.apiClient = apiClient;
+    }
 
     /**
      * 리그 + 시즌 기반 팀 조회
@@ -36,27 +34,23 @@ public class TeamApiService {
     public List<Team> fetchTeams(int leagueId, int season)
             throws Exception {
 
-        List<Team> teamList = new ArrayList<>();
+        return fetchTeams(leagueId, season, false);
+    }
 
-        String url =
-                BASE_URL + "/teams"
-                + "?league=" + leagueId
-                + "&season=" + season;
+    /**
+     * 리그 + 시즌 기반 팀 조회 (offline = 캐시만 사용)
+     */
+    public List<Team> fetchTeams(int leagueId, int season, boolean offline)
+            throws Exception {
 
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header("x-apisports-key", API_KEY)
-                        .GET()
-                        .build();
+        List<Team> teamList = new ArrayList<>();
 
-        HttpResponse<String> response =
-                HttpClient.newHttpClient()
-                        .send(request,
-                              HttpResponse.BodyHandlers.ofString());
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("league", leagueId);
+        params.put("season", season);
 
         JSONObject json =
-                new JSONObject(response.body());
+                apiClient.getJson("/teams", params, offline);
 
         if (!json.has("response")) {
             return teamList;
@@ -2,6 +2,7 @@ package eplscout.service;
 
 import eplscout.dao.TeamDao;
 import eplscout.model.Team;
+import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
@@ -18,13 +19,27 @@ import java.util.Map;
  * ※ SQL은 TeamDao,
  * ※ API 통신은 TeamApiService / LLMService
  */
+@Service
 public class TeamService {
 
-    private final TeamApiService teamApiService = new TeamApiService();
-    private final TeamDao teamDao = new TeamDao();
+    private final TeamApiService teamApiService;
+    private final TeamDao teamDao;
+    private final DataVersionService versionService;
 
     //  LLM 서비스 추가
-    private final LLMService llmService = new LLMService();
+    private final LLMService llmService;
+
+    public TeamService(
+            TeamApiService teamApiService,
+            TeamDao teamDao,
+            DataVersionService versionService,
+            LLMService llmService
+    ) {
+        this.teamApiService = teamApiService;
+        this.teamDao = teamDao;
+        this.versionService = versionService;
+        this.llmService = llmService;
+    }
 
     /* =====================================================
        1. 배치용: EPL 팀 목록 API → DB 저장
@@ -38,6 +53,12 @@ public class TeamService {
     public void fetchAndSaveEplTeams() throws Exception {
         List<Team> teams = teamApiService.getEplTeams();
         teamDao.upsertTeams(teams);
+
+        // 적재된 시즌 추천 입력 변경
+        teams.stream()
+             .mapToInt(Team::getSeason)
+             .distinct()
+             .forEach(versionService::bumpSeason);
     }
 
     /* =====================================================
@@ -0,0 +1,18 @@
+-- ===============================
+-- 수집 파이프라인 체크포인트
+-- - 완료된 작업 단위 (단계, 시즌, 팀, 페이지) 기록
+-- - 재실행 시 완료 단위는 건너뜀 (IngestionPipelineService)
+-- - 시즌 단위 단계는 api_team_id = 0, 팀 단위 완료는 page = 0
+-- - spring.sql.init.mode=never → 배포 시 수동 실행
+-- ===============================
+
+CREATE TABLE IF NOT EXISTS pipeline_checkpoint (
+    league_id     INT         NOT NULL,
+    stage         VARCHAR(32) NOT NULL,   -- standings / teams / players / season
+    season        INT         NOT NULL,
+    api_team_id   INT         NOT NULL DEFAULT 0,
+    page          INT         NOT NULL DEFAULT 0,
+    completed_at  DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (league_id, season, stage, api_team_id, page)
+);
@@ -0,0 +1,31 @@
+-- ===============================
+-- 포지션 코드 컬럼 / 후보 조회 인덱스
+-- - 코드 값은 SeasonStatSnapshot.POS_* 와 동일
+--   (0=미상, 1=GK, 2=DF, 3=MF, 4=FW)
+-- - spring.sql.init.mode=never → 배포 시 수동 실행 (반복 실행 안전)
+-- ===============================
+
+-- player: API 포지션명에서 파생되는 저장형 생성 컬럼
+-- (player.position 이 바뀌면 DB 가 자동 갱신 → 쓰기 경로별 동기화 불필요)
+ALTER TABLE player
+    ADD COLUMN IF NOT EXISTS position_code TINYINT AS (
+        CASE position
+            WHEN 'Goalkeeper' THEN 1
+            WHEN 'GK' THEN 1
+            WHEN 'Defender' THEN 2
+            WHEN 'DF' THEN 2
+            WHEN 'Midfielder' THEN 3
+            WHEN 'MF' THEN 3
+            WHEN 'Attacker' THEN 4
+            WHEN 'FW' THEN 4
+            ELSE 0
+        END
+    ) STORED;
+
+-- 약점 포지션 후보 조회:
+-- WHERE pss.season = ? AND pss.team_id <> ? AND p.position_code IN (...)
+CREATE INDEX IF NOT EXISTS idx_pss_season_team
+    ON player_season_stat (season, team_id);
+
+CREATE INDEX IF NOT EXISTS idx_player_position_code
+    ON player (position_code, player_id);
@@ -0,0 +1,80 @@
+package eplscout.scoring;
+
+import eplscout.model.PlayerInjuryStat;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 일괄 계산 경로 ↔ 기존 단건 계산 경로 결과 일치 검증
+ *
+ * - 비교는 double 비트 단위 (assertEquals(double, double) = Double.equals 기준, 허용 오차 없음)
+ */
+class BatchScoringConsistencyTest {
+
+    private static final long SEED = 20240101L;
+    private static final int ROWS = 400;
+
+    // 팀 레벨 보정 구간별로 비교 (강제 컷 / 감점 / 보너스)
+    private static final double[] TEAM_LEVELS = { 0.0, 5.8, 6.6, 7.0, 7.4 };
+
+    private final PerformanceCalculator performanceCalculator = new PerformanceCalculator();
+    private final PlayerValueCalculator valueCalculator = new PlayerValueCalculator();
+
+    @Test
+    void batchPerformanceMatchesRowAndObjectPaths() {
+
+        SeasonStatSnapshot snapshot =
+                SyntheticSnapshots.snapshot(ROWS, SEED, LocalDate.now());
+
+        double[] batch = new double[snapshot.size()];
+        performanceCalculator.calculateBatch(snapshot, batch);
+
+        for (int row = 0; row < snapshot.size(); row++) {
+
+            double byRow = performanceCalculator.calculate(snapshot, row);
+            double byObject = performanceCalculator.calculate(
+                    SyntheticSnapshots.toStat(snapshot, row));
+
+            assertEquals(byRow, batch[row], "batch/row row=" + row);
+            assertEquals(byObject, byRow, "row/object row=" + row);
+        }
+    }
+
+    @Test
+    void precomputedValueMatchesScalarValue() {
+
+        // 단건 경로는 나이를 LocalDate.now() 로 계산 → 기준일이 같아야 비교 가능
+        LocalDate referenceDate = LocalDate.now();
+
+        SeasonStatSnapshot snapshot =
+                SyntheticSnapshots.snapshot(ROWS, SEED, referenceDate);
+        Map<Long, PlayerInjuryStat> injuries =
+                SyntheticSnapshots.injuries(snapshot, SEED);
+
+        PlayerBaseValues base =
+                valueCalculator.precompute(snapshot, injuries, referenceDate);
+
+        for (int row = 0; row < snapshot.size(); row++) {
+
+            PlayerInjuryStat injury = injuries.get(snapshot.getPlayerId(row));
+            double injuryRate = injury == null ? 0.0 : injury.getInjuryRate();
+
+            for (double teamLevel : TEAM_LEVELS) {
+
+                double scalar = valueCalculator.calculateValue(
+                        SyntheticSnapshots.toStat(snapshot, row),
+                        SyntheticSnapshots.toPlayer(snapshot, row),
+                        teamLevel,
+                        injuryRate);
+
+                assertEquals(scalar,
+                        valueCalculator.calculateValue(base, row, teamLevel),
+                        "teamLevel=" + teamLevel + " row=" + row);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package eplscout.scoring;
+
+import eplscout.model.PlayerSeasonStat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PerformanceCalculator 단건(객체) 경로 ↔ 일괄(calculateBatch) 경로 JMH 비교
+ *
+ * - 선수 1k / 10k / 100k
+ * - 단건 경로 입력(PlayerSeasonStat)은 Setup 에서 미리 생성 → 계산 시간만 비교
+ * - surefire 대상 아님 (이름이 *Test 아님), 직접 실행:
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat cp.txt)
+ *       eplscout.scoring.PerformanceCalculatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerformanceCalculatorBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int players;
+
+    private final PerformanceCalculator calculator = new PerformanceCalculator();
+
+    private SeasonStatSnapshot snapshot;
+    private PlayerSeasonStat[] stats;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+
+        snapshot = SyntheticSnapshots.snapshot(players, 20240101L, LocalDate.now());
+
+        stats = new PlayerSeasonStat[players];
+        for (int row = 0; row < players; row++) {
+            stats[row] = SyntheticSnapshots.toStat(snapshot, row);
+        }
+
+        out = new double[players];
+    }
+
+    @Benchmark
+    public double[] scalar() {
+
+        for (int row = 0; row < stats.length; row++) {
+            out[row] = calculator.calculate(stats[row]);
+        }
+
+        return out;
+    }
+
+    @Benchmark
+    public double[] batch() {
+
+        calculator.calculateBatch(snapshot, out);
+
+        return out;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder()
+                .include(PerformanceCalculatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,140 @@
+package eplscout.scoring;
+
+import eplscout.model.Player;
+import eplscout.model.PlayerInjuryStat;
+import eplscout.model.PlayerSeasonStat;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * SyntheticSnapshots
+ *
+ * 역할:
+ * - 테스트 / 벤치마크용 고정 시드 합성 시즌 스냅샷
+ *   (포지션 전체 / 출전 0분 / 생일 없음 포함)
+ * - 스냅샷 행 → 기존 단건 경로 입력 (PlayerSeasonStat / Player) 변환
+ */
+final class SyntheticSnapshots {
+
+    static final int SEASON = 2023;
+
+    private SyntheticSnapshots() {}
+
+    static SeasonStatSnapshot snapshot(int rows, long seed, LocalDate referenceDate) {
+
+        Random random = new Random(seed);
+
+        SeasonStatSnapshot.Builder builder = new SeasonStatSnapshot.Builder(SEASON);
+
+        for (int i = 0; i < rows; i++) {
+
+            // 포지션 미상(0) 포함 전체 코드 순환
+            byte position = (byte) (i % SeasonStatSnapshot.POSITION_CODE_COUNT);
+
+            // 일부는 출전 0분 / 평점 0
+            boolean unused = i % 17 == 0;
+
+            int age = 17 + random.nextInt(20);
+
+            builder.nextRow()
+                    .playerId(1000L + i)
+                    .teamId(1 + random.nextInt(20))
+                    .positionCode(position)
+                    .age(age)
+                    .birthDate(i % 3 == 0
+                            ? null
+                            : referenceDate.minusDays(age * 365L + random.nextInt(365)))
+
+                    .appearances(unused ? 0 : 1 + random.nextInt(38))
+                    .minutesPlayed(unused ? 0 : random.nextInt(3420))
+                    .rating(unused ? 0.0 : 5.5 + random.nextInt(300) / 100.0)
+
+                    .goals(random.nextInt(30))
+                    .assists(random.nextInt(20))
+                    .shots(random.nextInt(120))
+                    .keyPasses(random.nextInt(90))
+                    .passAccuracy(random.nextInt(100))
+
+                    .tackles(random.nextInt(100))
+                    .interceptions(random.nextInt(70))
+                    .clearances(random.nextInt(150))
+
+                    .saves(random.nextInt(140))
+                    .goalsConceded(random.nextInt(70));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 짝수 행 선수에게 부상 이력 (0 ~ 1.5, 최소 보정선 0.7 아래까지 포함)
+     */
+    static Map<Long, PlayerInjuryStat> injuries(SeasonStatSnapshot snapshot, long seed) {
+
+        Random random = new Random(seed);
+
+        Map<Long, PlayerInjuryStat> injuries = new HashMap<>();
+
+        for (int row = 0; row < snapshot.size(); row += 2) {
+
+            PlayerInjuryStat injury = new PlayerInjuryStat();
+
+            injury.setPlayerId(snapshot.getPlayerId(row));
+            injury.setSeason(SEASON);
+            injury.setInjuryRate(random.nextInt(150) / 100.0);
+            injury.setTotalInjuryLast3Years(random.nextInt(8));
+            injury.setCurrentInjured(random.nextInt(10) == 0);
+
+            injuries.put(injury.getPlayerId(), injury);
+        }
+
+        return injuries;
+    }
+
+    static PlayerSeasonStat toStat(SeasonStatSnapshot s, int row) {
+
+        PlayerSeasonStat stat = new PlayerSeasonStat();
+
+        String position = SeasonStatSnapshot.positionName(s.getPosition(row));
+
+        stat.setPlayerId(s.getPlayerId(row));
+        stat.setTeamId(s.getTeamId(row));
+        stat.setSeason(s.getSeason());
+        stat.setPosition(position == null ? "UNKNOWN" : position);
+
+        stat.setAppearances(s.getAppearances(row));
+        stat.setMinutesPlayed(s.getMinutesPlayed(row));
+        stat.setRating(s.getRating(row));
+
+        stat.setGoals(s.getGoals(row));
+        stat.setAssists(s.getAssists(row));
+        stat.setShots(s.getShots(row));
+        stat.setKeyPasses(s.getKeyPasses(row));
+        stat.setPassAccuracy(s.getPassAccuracy(row));
+
+        stat.setTackles(s.getTackles(row));
+        stat.setInterceptions(s.getInterceptions(row));
+        stat.setClearances(s.getClearances(row));
+
+        stat.setSaves(s.getSaves(row));
+        stat.setGoalsConceded(s.getGoalsConceded(row));
+
+        return stat;
+    }
+
+    static Player toPlayer(SeasonStatSnapshot s, int row) {
+
+        Player player = new Player();
+
+        player.setAge(s.getAge(row));
+
+        if (s.getBirthEpochDay(row) != SeasonStatSnapshot.NO_BIRTH_DATE) {
+            player.setBirthDate(LocalDate.ofEpochDay(s.getBirthEpochDay(row)));
+        }
+
+        return player;
+    }
+}